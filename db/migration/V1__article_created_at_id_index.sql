@@ -0,0 +1,3 @@
+-- 글 목록 키셋 페이지네이션 (BlogRepository.findSummaries / findSummariesAfter : order by created_at desc, id desc)
+-- @Table(indexes) 는 스키마 생성 때만 만들어지므로 운영 DB에는 직접 추가
+CREATE INDEX idx_article_created_at_id ON article (created_at, id);
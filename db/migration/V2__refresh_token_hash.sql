@@ -0,0 +1,20 @@
+-- 리프레시 토큰 원문 대신 SHA-256 다이제스트 저장 (RefreshToken.tokenHash) + 만료 시각 (RefreshToken.expiresAt)
+-- 기존 행은 지우지 않고 같은 방식(base64url, 패딩 없음, 43자 : DigestUtil.sha256)으로 해시해서 옮김
+-- 그래서 로그인해 있던 사용자도 기존 리프레시 토큰으로 계속 액세스 토큰을 받을 수 있음
+ALTER TABLE refresh_token ADD COLUMN token_hash VARCHAR(43) NULL;
+
+UPDATE refresh_token
+SET token_hash = TRIM(TRAILING '=' FROM
+        REPLACE(REPLACE(TO_BASE64(UNHEX(SHA2(refresh_token, 256))), '+', '-'), '/', '_'));
+
+ALTER TABLE refresh_token
+    MODIFY COLUMN token_hash VARCHAR(43) NOT NULL,
+    ADD CONSTRAINT uk_refresh_token_token_hash UNIQUE (token_hash),
+    DROP COLUMN refresh_token;
+
+-- 기존 토큰의 실제 exp는 SQL로 읽을 수 없으므로 발급 기간 상한(OAuth2SuccessHandler.REFRESH_TOKEN_DURATION, 14일)으로 채움
+-- 그 전에 만료된 토큰은 JWT 검증에서 먼저 거절되고, 이 시각이 지나면 정기 삭제 대상이 됨
+ALTER TABLE refresh_token ADD COLUMN expires_at DATETIME(6) NULL;
+UPDATE refresh_token SET expires_at = NOW(6) + INTERVAL 14 DAY;
+
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
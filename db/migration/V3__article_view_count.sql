@@ -0,0 +1,3 @@
+-- 글 조회수 (Article.viewCount, ArticleViewCounter가 모아서 UPDATE ... SET view_count = view_count + ?)
+-- columnDefinition 은 스키마 생성 때만 쓰이므로 운영 DB에는 직접 추가
+ALTER TABLE article ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- 글 낙관적 잠금 버전 (Article.version, ETag "id-version", If-Match 조건부 수정/삭제)
+-- 기존 글은 0부터 시작
+ALTER TABLE article ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- 작성자별 글 목록(/api/users/{author}/articles, 키셋 페이지네이션)과 작성자별 글 수(countByAuthor)
+-- @Table(indexes) 는 스키마 생성 때만 만들어지므로 운영 DB에는 직접 추가
+CREATE INDEX idx_article_author_created_at_id ON article (author, created_at, id);
@@ -0,0 +1,71 @@
+package me.superoi.springbootdeveloper.config.error;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import me.superoi.springbootdeveloper.config.error.exception.ArticleNotFoundException;
+import me.superoi.springbootdeveloper.config.error.exception.BusinessBaseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 404 경로의 예외 비용 : 컨트롤러/서비스 깊이(64프레임)에서 던지고 GlobalExceptionHandler로 응답 생성
+// stackTrace : 매번 새 예외 + 스택 트레이스 채움 + 새 ErrorResponse (기존 방식)
+// stackless : 매번 새 예외, 스택 트레이스 없음
+// preallocated : 미리 만든 ArticleNotFoundException.INSTANCE
+// 로그 출력 비용을 빼기 위해 로깅은 끔 (로깅 포함 비교는 NotFoundStormBenchmark)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotFoundPathBenchmark {
+
+    private static final int DEPTH = 64;
+
+    @Param({"stackTrace", "stackless", "preallocated"})
+    public String exception;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.OFF);
+        LoggingProperties properties = new LoggingProperties();
+        properties.setBusinessStackTraceInterval(Duration.ofMinutes(1));
+        handler = new GlobalExceptionHandler(properties);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        try {
+            return lookup(DEPTH);
+        } catch (BusinessBaseException e) {
+            if ("stackTrace".equals(exception)) {
+                return new ResponseEntity<>(new ErrorResponse(e.getErrorCode(), e.getMessage()),
+                        e.getErrorCode().getStatus());
+            }
+            return handler.handle(e);
+        }
+    }
+
+    private ResponseEntity<ErrorResponse> lookup(int depth) {
+        if (depth > 0) {
+            return lookup(depth - 1);
+        }
+        throw switch (exception) {
+            case "stackTrace" -> new BusinessBaseException(ErrorCode.ARTICLE_NOT_FOUND);
+            case "stackless" -> new ArticleNotFoundException();
+            default -> ArticleNotFoundException.INSTANCE;
+        };
+    }
+}
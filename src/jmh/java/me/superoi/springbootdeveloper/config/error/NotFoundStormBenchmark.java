@@ -0,0 +1,115 @@
+package me.superoi.springbootdeveloper.config.error;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import me.superoi.springbootdeveloper.config.error.exception.ArticleNotFoundException;
+import me.superoi.springbootdeveloper.config.error.exception.BusinessBaseException;
+import net.logstash.logback.encoder.LogstashEncoder;
+import net.logstash.logback.stacktrace.ShortenedThrowableConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 없는 글 요청이 몰릴 때(404 storm) 예외 처리 + 로깅 처리량
+// before : 기존 설정 (DEBUG, 동기 출력, 요청마다 새 예외 + log.error + 전체 스택 트레이스)
+// after  : prod 프로필 (INFO, AsyncAppender + JSON) + 미리 만든 경량 예외
+//          로그는 에러 코드별로 1분에 한 번만 코드와 요청 경로를 남기고 나머지는 DEBUG(꺼짐)
+//          요청 밖에서 실행하므로 요청 경로는 "-"
+// 출력은 콘솔 대신 build/results/jmh/404-storm-<logging>.log 로 보냄
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class NotFoundStormBenchmark {
+
+    private static final Logger LEGACY_LOG = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @Param({"before", "after"})
+    public String logging;
+
+    private GlobalExceptionHandler handler;
+    private LoggerContext context;
+
+    @Setup
+    public void setUp() {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        String file = "build/results/jmh/404-storm-" + logging + ".log";
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+
+        if ("before".equals(logging)) {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} - %msg%n");
+            encoder.start();
+            root.setLevel(Level.DEBUG);
+            root.addAppender(fileAppender(file, encoder));
+        } else {
+            ShortenedThrowableConverter throwableConverter = new ShortenedThrowableConverter();
+            throwableConverter.setMaxDepthPerThrowable(30);
+            throwableConverter.setRootCauseFirst(true);
+            LogstashEncoder encoder = new LogstashEncoder();
+            encoder.setContext(context);
+            encoder.setThrowableConverter(throwableConverter);
+            encoder.start();
+
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(fileAppender(file, encoder));
+            async.start();
+            root.setLevel(Level.INFO);
+            root.addAppender(async);
+        }
+
+        LoggingProperties properties = new LoggingProperties();
+        properties.setBusinessStackTraceInterval(Duration.ofMinutes(1));
+        handler = new GlobalExceptionHandler(properties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        if ("before".equals(logging)) {
+            BusinessBaseException e = new BusinessBaseException(ErrorCode.ARTICLE_NOT_FOUND);
+            LEGACY_LOG.error("BusinessException", e);
+            return new ResponseEntity<>(new ErrorResponse(e.getErrorCode(), e.getMessage()),
+                    e.getErrorCode().getStatus());
+        }
+        return handler.handle(ArticleNotFoundException.INSTANCE);
+    }
+
+    private Appender<ILoggingEvent> fileAppender(String file, Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file);
+        appender.setAppend(false);
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,50 @@
+package me.superoi.springbootdeveloper.config.jwt;
+
+import me.superoi.springbootdeveloper.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나당 TokenAuthenticationFilter가 수행하는 토큰 처리 비용 비교
+// twoPass : 기존 validToken() + getAuthentication(String) (파싱/HMAC 검증 2회)
+// singlePass : verify() 한 번 + getAuthentication(VerifiedToken)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("benchmark@blogapp");
+        jwtProperties.setSecretKey("benchmark-secret-key");
+        tokenProvider = new TokenProvider(jwtProperties);
+
+        User user = User.builder().email("user@email.com").password("password").build();
+        token = tokenProvider.generateToken(user, Duration.ofHours(2));
+    }
+
+    @Benchmark
+    public Authentication twoPass() {
+        if (!tokenProvider.validToken(token)) {
+            return null;
+        }
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication singlePass() {
+        return tokenProvider.verify(token).map(tokenProvider::getAuthentication).orElse(null);
+    }
+}
@@ -0,0 +1,69 @@
+package me.superoi.springbootdeveloper.config.oauth;
+
+import jakarta.servlet.http.Cookie;
+import me.superoi.springbootdeveloper.util.CookieUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// OAuth2 인가 요청 쿠키 인코딩 비교 : 자바 직렬화(CookieUtil) vs 바이너리 + HMAC(OAuth2AuthorizationRequestCodec)
+// 쿠키 크기는 시작 시 한 번 출력 (human.txt 에 남음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("deprecation")
+public class OAuth2AuthorizationRequestCodecBenchmark {
+
+    private OAuth2AuthorizationRequestCodec codec;
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private Cookie serializedCookie;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        codec = new OAuth2AuthorizationRequestCodec(
+                "benchmark-secret-key".getBytes(StandardCharsets.UTF_8), Clock.systemUTC());
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("blogapp-client-id.apps.googleusercontent.com")
+                .redirectUri("https://blogapp52.duckdns.org/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("0b7c3e52-7f4e-4c8b-9a55-8d2f3c4a1b6e")
+                .attributes(attributes -> attributes.put("registration_id", "google"))
+                .build();
+        serializedCookie = new Cookie("oauth2_auth_request", CookieUtil.serialize(authorizationRequest));
+        encoded = codec.encode(authorizationRequest);
+        System.out.printf("cookie bytes : javaSerialization=%d, codec=%d%n",
+                serializedCookie.getValue().length(), encoded.length());
+    }
+
+    @Benchmark
+    public String javaSerializationEncode() {
+        return CookieUtil.serialize(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest javaSerializationDecode() {
+        return CookieUtil.deserialize(serializedCookie, OAuth2AuthorizationRequest.class);
+    }
+
+    @Benchmark
+    public String codecEncode() {
+        return codec.encode(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest codecDecode() {
+        return codec.decode(encoded);
+    }
+}
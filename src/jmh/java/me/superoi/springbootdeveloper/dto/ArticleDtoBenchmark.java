@@ -0,0 +1,73 @@
+package me.superoi.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.superoi.springbootdeveloper.domain.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 글 DTO 변환과 목록 응답 JSON 직렬화 비용 (페이지 크기별)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleDtoBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Article> articles;
+    private List<ArticleSummary> summaries;
+    private ArticlePageResponse<ArticleSummary> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        articles = new ArrayList<>();
+        summaries = new ArrayList<>();
+        String content = "본문 ".repeat(500);
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 0; i < pageSize; i++) {
+            articles.add(Article.builder().author("user@email.com").title("제목 " + i).content(content).build());
+            summaries.add(new ArticleSummary(i, "제목 " + i, "user@email.com", now,
+                    content.substring(0, ArticleSummary.EXCERPT_LENGTH)));
+        }
+        page = new ArticlePageResponse<>(summaries, ArticleCursor.of(now, 1L).encode());
+
+        // 스프링 부트 기본 ObjectMapper와 같은 설정
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public List<ArticleResponse> mapArticleResponses() {
+        return articles.stream().map(ArticleResponse::new).toList();
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> mapArticleListViewResponses() {
+        return summaries.stream().map(ArticleListViewResponse::new).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeListPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeFullArticles() throws Exception {
+        return objectMapper.writeValueAsBytes(articles.stream().map(ArticleResponse::new).toList());
+    }
+}
@@ -0,0 +1,117 @@
+package me.superoi.springbootdeveloper.service;
+
+import me.superoi.springbootdeveloper.SpringbootDeveloperApplication;
+import me.superoi.springbootdeveloper.config.cache.ArticleCache;
+import me.superoi.springbootdeveloper.domain.Article;
+import me.superoi.springbootdeveloper.dto.ArticlePageResponse;
+import me.superoi.springbootdeveloper.dto.ArticleSummary;
+import me.superoi.springbootdeveloper.dto.ArticleVersion;
+import me.superoi.springbootdeveloper.repository.BlogRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 임베디드 H2 위에서 BlogService 조회 경로 비용
+// 애플리케이션 컨텍스트는 trial마다 한 번 띄우고 글 ARTICLE_COUNT 건을 미리 저장
+// cache=cached : ArticleCache 적중 경로 (DB 조회 없음)
+// cache=uncached : 호출마다 ArticleCache를 비워 DB 조회 경로를 잼 (비우는 비용 포함, 중간 페이지는 원래 캐싱하지 않음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlogServiceBenchmark {
+
+    private static final int ARTICLE_COUNT = 10_000;
+
+    @Param({"cached", "uncached"})
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private ArticleCache articleCache;
+    private long articleId;
+    private String middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringbootDeveloperApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "jwt.issuer=benchmark@blogapp",
+                        "jwt.secret-key=benchmark-secret-key",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework=WARN")
+                .run();
+
+        BlogRepository blogRepository = context.getBean(BlogRepository.class);
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            articles.add(Article.builder().author("user@email.com").title("제목 " + i).content("본문 " + i).build());
+        }
+        blogRepository.saveAll(articles);
+
+        blogService = context.getBean(BlogService.class);
+        articleCache = context.getBean(ArticleCache.class);
+        articleId = articles.get(ARTICLE_COUNT / 2).getId();
+        // 목록 중간쯤 페이지의 커서 (캐시되지 않는 키셋 조회 경로)
+        String cursor = null;
+        for (int i = 0; i < ARTICLE_COUNT / BlogService.DEFAULT_PAGE_SIZE / 2; i++) {
+            cursor = blogService.findPage(cursor, BlogService.DEFAULT_PAGE_SIZE).getNext();
+        }
+        middleCursor = cursor;
+        // findVersion 은 이미 캐시에 올라온 글만 캐시에서 읽으므로 미리 올려 둠
+        blogService.findById(articleId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ArticlePageResponse<ArticleSummary> findFirstPage() {
+        evictIfUncached();
+        return blogService.findPage(null, BlogService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ArticlePageResponse<ArticleSummary> findMiddlePage() {
+        evictIfUncached();
+        return blogService.findPage(middleCursor, BlogService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Article findById() {
+        evictIfUncached();
+        return blogService.findById(articleId);
+    }
+
+    @Benchmark
+    public ArticleVersion findVersion() {
+        evictIfUncached();
+        return blogService.findVersion(articleId);
+    }
+
+    private void evictIfUncached() {
+        if ("uncached".equals(cache)) {
+            articleCache.clear();
+        }
+    }
+}
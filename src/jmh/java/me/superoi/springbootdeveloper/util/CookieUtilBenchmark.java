@@ -0,0 +1,47 @@
+package me.superoi.springbootdeveloper.util;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// OAuth2 인가 요청을 쿠키 값으로 직렬화/역직렬화하는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CookieUtilBenchmark {
+
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private Cookie cookie;
+
+    @Setup
+    public void setUp() {
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("blogapp-client-id.apps.googleusercontent.com")
+                .redirectUri("https://blogapp52.duckdns.org/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("0b7c3e52-7f4e-4c8b-9a55-8d2f3c4a1b6e")
+                .attributes(attributes -> attributes.put("registration_id", "google"))
+                .build();
+        cookie = new Cookie("oauth2_auth_request", CookieUtil.serialize(authorizationRequest));
+    }
+
+    @Benchmark
+    public String serialize() {
+        return CookieUtil.serialize(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest deserialize() {
+        return CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class);
+    }
+}
@@ -0,0 +1,64 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// 부하 생성용 HTTP 클라이언트 (응답 본문은 필요한 경우에만 문자열로 받음)
+public class BlogClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+
+    public BlogClient(URI baseUri) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public HttpResponse<Void> get(String path, String accessToken) throws IOException, InterruptedException {
+        return httpClient.send(request(path, accessToken).GET().build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    public HttpResponse<Void> delete(String path, String accessToken, String ifMatch)
+            throws IOException, InterruptedException {
+        return httpClient.send(request(path, accessToken).header("If-Match", ifMatch).DELETE().build(),
+                HttpResponse.BodyHandlers.discarding());
+    }
+
+    public HttpResponse<String> post(String path, String accessToken, String json)
+            throws IOException, InterruptedException {
+        return httpClient.send(request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    public HttpResponse<Void> put(String path, String accessToken, String ifMatch, String json)
+            throws IOException, InterruptedException {
+        return httpClient.send(request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .header("If-Match", ifMatch)
+                .PUT(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Accept-Encoding", "gzip");
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+}
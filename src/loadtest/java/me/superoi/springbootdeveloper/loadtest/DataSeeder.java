@@ -0,0 +1,74 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import com.github.javafaker.Faker;
+import me.superoi.springbootdeveloper.config.jwt.TokenProvider;
+import me.superoi.springbootdeveloper.domain.Article;
+import me.superoi.springbootdeveloper.domain.User;
+import me.superoi.springbootdeveloper.repository.BlogRepository;
+import me.superoi.springbootdeveloper.repository.UserRepository;
+import me.superoi.springbootdeveloper.service.RefreshTokenService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 기동한 애플리케이션의 빈으로 직접 시드 데이터 생성 (같은 seed면 같은 데이터)
+public class DataSeeder {
+
+    private static final int BATCH_SIZE = 500;
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(12);
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(1);
+
+    private final ApplicationContext context;
+    private final LoadProfile profile;
+
+    public DataSeeder(ApplicationContext context, LoadProfile profile) {
+        this.context = context;
+        this.profile = profile;
+    }
+
+    public SeedData seed() {
+        Faker faker = new Faker(new Random(profile.seed()));
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        BlogRepository blogRepository = context.getBean(BlogRepository.class);
+        TokenProvider tokenProvider = context.getBean(TokenProvider.class);
+        RefreshTokenService refreshTokenService = context.getBean(RefreshTokenService.class);
+        // 로그인은 시나리오에 없으므로 해시는 한 번만 계산해서 공유
+        String password = context.getBean(PasswordEncoder.class).encode("loadtest");
+
+        List<SeedData.SeedUser> users = new ArrayList<>(profile.users());
+        for (int i = 0; i < profile.users(); i++) {
+            User user = userRepository.save(User.builder()
+                    .email("loadtest" + i + "@blogapp.com")
+                    .password(password)
+                    .nickname(faker.name().username())
+                    .build());
+            String accessToken = tokenProvider.generateToken(user, ACCESS_TOKEN_TTL);
+            String refreshToken = tokenProvider.generateToken(user, REFRESH_TOKEN_TTL);
+            refreshTokenService.save(user.getId(), refreshToken, LocalDateTime.now().plus(REFRESH_TOKEN_TTL));
+            users.add(new SeedData.SeedUser(user.getEmail(), accessToken, refreshToken));
+        }
+
+        long[] articleIds = new long[profile.articles()];
+        List<Article> batch = new ArrayList<>(BATCH_SIZE);
+        int saved = 0;
+        for (int i = 0; i < profile.articles(); i++) {
+            batch.add(Article.builder()
+                    .author(users.get(i % users.size()).email())
+                    .title(faker.book().title())
+                    .content(String.join("\n", faker.lorem().paragraphs(3)))
+                    .build());
+            if (batch.size() == BATCH_SIZE || i == profile.articles() - 1) {
+                for (Article article : blogRepository.saveAll(batch)) {
+                    articleIds[saved++] = article.getId();
+                }
+                batch.clear();
+            }
+        }
+        return new SeedData(List.copyOf(users), articleIds);
+    }
+}
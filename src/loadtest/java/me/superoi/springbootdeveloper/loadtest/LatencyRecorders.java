@@ -0,0 +1,51 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 작업(operation)별 지연 시간 히스토그램(마이크로초)과 오류 수
+public class LatencyRecorders {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String operation, long latencyNanos) {
+        recorders.computeIfAbsent(operation, key -> new Recorder(SIGNIFICANT_DIGITS))
+                .recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+    }
+
+    public void error(String operation) {
+        errors.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    // 워밍업 구간 기록 버림
+    public void reset() {
+        recorders.values().forEach(Recorder::getIntervalHistogram);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    public Map<String, OperationResult> snapshot() {
+        Map<String, OperationResult> results = new TreeMap<>();
+        recorders.forEach((operation, recorder) -> results.put(operation,
+                new OperationResult(recorder.getIntervalHistogram(), errorCount(operation))));
+        errors.forEach((operation, count) -> results.computeIfAbsent(operation,
+                key -> new OperationResult(new Histogram(SIGNIFICANT_DIGITS), count.sum())));
+        return results;
+    }
+
+    private long errorCount(String operation) {
+        LongAdder count = errors.get(operation);
+        return count == null ? 0 : count.sum();
+    }
+
+    public record OperationResult(Histogram histogram, long errors) {
+    }
+}
@@ -0,0 +1,107 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+// 결과 출력 : 콘솔 표 + build/results/loadtest/<profile>.json (회귀 비교용) + 작업별 .hgrm (HdrHistogram 백분위 분포)
+public class LatencyReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadProfile profile;
+    private final Map<String, LatencyRecorders.OperationResult> operations;
+
+    public LatencyReport(LoadProfile profile, Map<String, LatencyRecorders.OperationResult> operations) {
+        this.profile = profile;
+        this.operations = operations;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%nprofile=%s rate=%d/s duration=%s seed=%d%n",
+                profile.name(), profile.rate(), profile.duration(), profile.seed());
+        out.printf(Locale.ROOT, "%-28s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        operations.forEach((operation, result) -> {
+            Histogram histogram = result.histogram();
+            out.printf(Locale.ROOT, "%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation,
+                    histogram.getTotalCount(),
+                    result.errors(),
+                    throughput(histogram),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[0])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[1])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[2])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[3])),
+                    millis(histogram.getMaxValue()));
+        });
+        out.printf(Locale.ROOT, "error rate : %.4f%n", errorRate());
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("profile", profile.name());
+        root.put("rate", profile.rate());
+        root.put("duration", profile.duration().toString());
+        root.put("seed", profile.seed());
+        root.put("errorRate", errorRate());
+        ObjectNode results = root.putObject("operations");
+
+        for (Map.Entry<String, LatencyRecorders.OperationResult> entry : operations.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            ObjectNode node = results.putObject(entry.getKey());
+            node.put("count", histogram.getTotalCount());
+            node.put("errors", entry.getValue().errors());
+            node.put("throughput", throughput(histogram));
+            ObjectNode percentiles = node.putObject("latencyMs");
+            for (double percentile : PERCENTILES) {
+                percentiles.put("p" + (percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                        millis(histogram.getValueAtPercentile(percentile)));
+            }
+            percentiles.put("max", millis(histogram.getMaxValue()));
+
+            // 마이크로초 기록을 밀리초 단위로 출력 (HdrHistogram plotter 로 여러 실행 비교 가능)
+            if (histogram.getTotalCount() > 0) {
+                try (PrintStream hgrm = new PrintStream(
+                        directory.resolve(profile.name() + "-" + fileName(entry.getKey()) + ".hgrm").toFile())) {
+                    histogram.outputPercentileDistribution(hgrm, 1000.0);
+                }
+            }
+        }
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(directory.resolve(profile.name() + ".json").toFile(), root);
+    }
+
+    public double errorRate() {
+        long total = 0;
+        long errors = 0;
+        for (LatencyRecorders.OperationResult result : operations.values()) {
+            // 보내지 못한(saturated) 요청은 히스토그램 없이 오류만 있으므로 분모에 더함
+            long count = result.histogram().getTotalCount();
+            total += count == 0 ? result.errors() : count;
+            errors += result.errors();
+        }
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    private double throughput(Histogram histogram) {
+        return histogram.getTotalCount() / (profile.duration().toMillis() / 1000.0);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String fileName(String operation) {
+        return operation.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+}
@@ -0,0 +1,62 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+// 트래픽 프로필 : src/loadtest/resources/profiles/<name>.properties
+// 같은 키를 -Dloadtest.<key>=값 (gradle: -Ploadtest.<key>=값) 으로 덮어쓸 수 있음
+public record LoadProfile(
+        String name,
+        int rate, // 초당 요청(시나리오) 수, 응답을 기다리지 않고 일정 간격으로 보냄
+        Duration warmup, // 측정에서 제외할 앞부분
+        Duration duration, // 측정 구간
+        long seed, // 데이터 생성과 시나리오 선택 순서를 고정
+        int users,
+        int articles,
+        int maxInFlight, // 동시에 처리 중인 요청 상한, 넘으면 보내지 않고 saturated 로 기록
+        double maxErrorRate, // 넘으면 종료 코드 1
+        Map<Scenario, Integer> weights
+) {
+
+    private static final String OVERRIDE_PREFIX = "loadtest.";
+
+    public static LoadProfile load(String name) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadProfile.class.getResourceAsStream("/profiles/" + name + ".properties")) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown load profile: " + name);
+            }
+            properties.load(in);
+        }
+        System.getProperties().forEach((key, value) -> {
+            String property = key.toString();
+            if (property.startsWith(OVERRIDE_PREFIX)) {
+                properties.setProperty(property.substring(OVERRIDE_PREFIX.length()), value.toString());
+            }
+        });
+
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            weights.put(scenario, Integer.parseInt(properties.getProperty("weight." + scenario.key(), "0")));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("At least one scenario weight must be positive");
+        }
+
+        return new LoadProfile(
+                name,
+                Integer.parseInt(properties.getProperty("rate", "100")),
+                Duration.parse(properties.getProperty("warmup", "PT10S")),
+                Duration.parse(properties.getProperty("duration", "PT60S")),
+                Long.parseLong(properties.getProperty("seed", "42")),
+                Integer.parseInt(properties.getProperty("users", "50")),
+                Integer.parseInt(properties.getProperty("articles", "5000")),
+                Integer.parseInt(properties.getProperty("max-in-flight", "1000")),
+                Double.parseDouble(properties.getProperty("max-error-rate", "0.01")),
+                weights);
+    }
+}
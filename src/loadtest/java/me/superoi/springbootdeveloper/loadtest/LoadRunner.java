@@ -0,0 +1,87 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+// 개방형(open model) 부하 : 응답 여부와 상관없이 rate 에 맞춰 일정 간격으로 시나리오 시작
+// 발송 순서(시나리오, 사용자, 글 id)는 seed 로 고정되어 같은 프로필이면 같은 요청열이 재현됨
+public class LoadRunner {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadProfile profile;
+    private final BlogClient client;
+    private final SeedData data;
+    private final Scenario[] wheel;
+
+    public LoadRunner(LoadProfile profile, BlogClient client, SeedData data) {
+        this.profile = profile;
+        this.client = client;
+        this.data = data;
+        this.wheel = profile.weights().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Scenario[]::new);
+    }
+
+    public Map<String, LatencyRecorders.OperationResult> run() throws InterruptedException {
+        LatencyRecorders recorders = new LatencyRecorders();
+        Semaphore inFlight = new Semaphore(profile.maxInFlight());
+        SplittableRandom random = new SplittableRandom(profile.seed());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.rate();
+
+        long start = System.nanoTime();
+        long measureStart = start + profile.warmup().toNanos();
+        long end = measureStart + profile.duration().toNanos();
+        boolean measuring = false;
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long sequence = 0; ; sequence++) {
+                long intended = start + sequence * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                if (!measuring && intended >= measureStart) {
+                    recorders.reset();
+                    measuring = true;
+                }
+
+                Scenario scenario = wheel[random.nextInt(wheel.length)];
+                Scenario.Iteration iteration = new Scenario.Iteration(
+                        sequence,
+                        intended,
+                        data.users().get(random.nextInt(data.users().size())),
+                        data.articleIds()[random.nextInt(data.articleIds().length)]);
+
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                // 처리 중인 요청이 상한에 닿으면 보내지 않고 포화(saturated)로 기록
+                if (!inFlight.tryAcquire()) {
+                    recorders.error(scenario.key() + " (saturated)");
+                    continue;
+                }
+                workers.execute(() -> {
+                    try {
+                        scenario.run(client, iteration, recorders);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+        // 처리량은 측정 구간(duration) 기준, 끝나고 응답을 기다린 시간은 포함하지 않음
+        return recorders.snapshot();
+    }
+}
@@ -0,0 +1,37 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import me.superoi.springbootdeveloper.SpringbootDeveloperApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Map;
+
+// 부하 테스트 진입점 : ./gradlew loadTest -PloadProfile=mixed
+// 1. loadtest 프로필(H2, 임의 포트)로 애플리케이션 기동
+// 2. 시드 데이터 생성 (javafaker, seed 고정)
+// 3. 프로필의 rate/비율대로 트래픽 발생 후 결과 출력, 오류율이 max-error-rate 를 넘으면 종료 코드 1
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.load(args.length > 0 ? args[0] : "mixed");
+        Path resultDirectory = Path.of(System.getProperty("loadtest.results", "build/results/loadtest"));
+
+        double errorRate;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringbootDeveloperApplication.class)
+                .profiles("loadtest")
+                .run()) {
+            SeedData data = new DataSeeder(context, profile).seed();
+            String port = context.getEnvironment().getRequiredProperty("local.server.port");
+            BlogClient client = new BlogClient(URI.create("http://localhost:" + port));
+
+            Map<String, LatencyRecorders.OperationResult> operations = new LoadRunner(profile, client, data).run();
+            LatencyReport report = new LatencyReport(profile, operations);
+            report.print(System.out);
+            report.write(resultDirectory);
+            errorRate = report.errorRate();
+        }
+        System.exit(errorRate > profile.maxErrorRate() ? 1 : 0);
+    }
+}
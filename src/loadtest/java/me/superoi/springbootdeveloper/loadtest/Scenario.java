@@ -0,0 +1,120 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+// 트래픽 시나리오 : 한 번 실행에 1개 이상의 요청을 보내고 요청(operation)별로 기록
+// 지연 시간은 예정된 발송 시각(intendedNanos)부터 측정해서 서버가 밀렸을 때 대기한 시간도 포함 (coordinated omission 보정)
+public enum Scenario {
+
+    // 비로그인 목록 페이지
+    BROWSE("browse") {
+        @Override
+        void execute(BlogClient client, Iteration iteration, LatencyRecorders recorders) throws Exception {
+            HttpResponse<Void> response = client.get("/articles", null);
+            complete(recorders, "GET /articles", iteration.intendedNanos(), response.statusCode(), 200);
+        }
+    },
+
+    // 로그인 사용자의 글 조회 (5번에 1번은 목록 API)
+    READ("read") {
+        @Override
+        void execute(BlogClient client, Iteration iteration, LatencyRecorders recorders) throws Exception {
+            String accessToken = iteration.user().accessToken();
+            if (iteration.sequence() % 5 == 0) {
+                HttpResponse<Void> response = client.get("/api/articles", accessToken);
+                complete(recorders, "GET /api/articles", iteration.intendedNanos(), response.statusCode(), 200);
+                return;
+            }
+            HttpResponse<Void> response = client.get("/api/articles/" + iteration.articleId(), accessToken);
+            complete(recorders, "GET /api/articles/{id}", iteration.intendedNanos(), response.statusCode(), 200);
+        }
+    },
+
+    // 글 작성 -> 수정 -> 삭제 (시드 데이터는 건드리지 않음), 수정/삭제는 직전 응답의 버전으로 If-Match
+    WRITE("write") {
+        @Override
+        void execute(BlogClient client, Iteration iteration, LatencyRecorders recorders) throws Exception {
+            String accessToken = iteration.user().accessToken();
+            String body = JSON.writeValueAsString(Map.of(
+                    "title", "loadtest " + iteration.sequence(),
+                    "content", "loadtest content " + iteration.sequence()));
+
+            HttpResponse<String> created = client.post("/api/articles", accessToken, body);
+            if (!complete(recorders, "POST /api/articles", iteration.intendedNanos(), created.statusCode(), 201)) {
+                return;
+            }
+            JsonNode article = JSON.readTree(created.body());
+            long id = article.path("id").asLong();
+            String eTag = "\"" + id + "-" + article.path("version").asLong() + "\"";
+
+            long start = System.nanoTime();
+            HttpResponse<Void> updated = client.put("/api/articles/" + id, accessToken, eTag, body);
+            complete(recorders, "PUT /api/articles/{id}", start, updated.statusCode(), 200);
+            eTag = updated.headers().firstValue("ETag").orElse("*");
+
+            start = System.nanoTime();
+            HttpResponse<Void> deleted = client.delete("/api/articles/" + id, accessToken, eTag);
+            complete(recorders, "DELETE /api/articles/{id}", start, deleted.statusCode(), 200);
+        }
+    },
+
+    // 리프레시 토큰으로 액세스 토큰 재발급
+    // /api/token 은 인증이 필요하므로 article.js 처럼 기존 액세스 토큰도 함께 보냄 (없으면 로그인 페이지로 302)
+    REFRESH("refresh") {
+        @Override
+        void execute(BlogClient client, Iteration iteration, LatencyRecorders recorders) throws Exception {
+            String body = JSON.writeValueAsString(Map.of("refreshToken", iteration.user().refreshToken()));
+            HttpResponse<String> response = client.post("/api/token", iteration.user().accessToken(), body);
+            complete(recorders, "POST /api/token", iteration.intendedNanos(), response.statusCode(), 201);
+        }
+    };
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    abstract void execute(BlogClient client, Iteration iteration, LatencyRecorders recorders) throws Exception;
+
+    // 전송 실패(타임아웃 등)는 "<시나리오> (io)" 작업의 오류로 기록
+    // 가장 느린 요청이 분포에서 빠지지 않도록 예정된 발송 시각부터 실패까지의 시간도 함께 기록
+    void run(BlogClient client, Iteration iteration, LatencyRecorders recorders) {
+        try {
+            execute(client, iteration, recorders);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            recorders.record(key + " (io)", System.nanoTime() - iteration.intendedNanos());
+            recorders.error(key + " (io)");
+        } catch (Exception e) {
+            recorders.error(key + " (" + e.getClass().getSimpleName() + ")");
+        }
+    }
+
+    // 304 Not Modified 도 정상 응답으로 봄
+    private static boolean complete(LatencyRecorders recorders, String operation, long startNanos,
+                                    int status, int expected) {
+        recorders.record(operation, System.nanoTime() - startNanos);
+        if (status != expected && status != 304) {
+            recorders.error(operation);
+            return false;
+        }
+        return true;
+    }
+
+    // 한 번의 시나리오 실행에 필요한 값 (발송 스레드에서 seed 기반 난수로 미리 정함)
+    public record Iteration(long sequence, long intendedNanos, SeedData.SeedUser user, long articleId) {
+    }
+}
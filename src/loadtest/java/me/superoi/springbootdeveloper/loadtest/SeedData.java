@@ -0,0 +1,10 @@
+package me.superoi.springbootdeveloper.loadtest;
+
+import java.util.List;
+
+// 시드 데이터 : 시나리오가 참조하는 사용자 토큰과 글 id
+public record SeedData(List<SeedUser> users, long[] articleIds) {
+
+    public record SeedUser(String email, String accessToken, String refreshToken) {
+    }
+}
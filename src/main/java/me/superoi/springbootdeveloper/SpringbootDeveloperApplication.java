@@ -4,9 +4,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing // created_at, updated_at 자동 업데이트
+@EnableScheduling // 만료 리프레시 토큰 정리 등 주기 작업
+@EnableAsync // 가져온 글 검색 색인 등 요청과 분리할 작업
 @ComponentScan(basePackages = "me.superoi.springbootdeveloper")
 public class SpringbootDeveloperApplication {
 	public static void main(String[] args) {
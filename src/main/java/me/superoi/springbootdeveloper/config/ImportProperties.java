@@ -0,0 +1,17 @@
+package me.superoi.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.import")
+public class ImportProperties {
+
+    private int batchSize = 1000; // JDBC 배치 한 번(= 트랜잭션 하나)에 넣을 행 수
+    private int maxErrors = 100; // 응답에 담을 검증 실패 행 최대 수 (넘는 건 개수만 셈)
+    private boolean preserveAuthor = false; // true면 행의 author를 그대로 사용 (이관용), false면 요청한 사용자로 저장
+}
@@ -0,0 +1,46 @@
+package me.superoi.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import me.superoi.springbootdeveloper.config.error.exception.PasswordHashRejectedException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+// 비밀번호 해싱을 요청 스레드(Tomcat)가 아닌 전용 스레드 풀에서 수행
+// 큐가 가득 차면 즉시 실패시켜 가입 요청이 몰려도 요청 스레드가 묶이지 않도록 함
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordProperties properties, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getHashThreads());
+        executor.setMaxPoolSize(properties.getHashThreads());
+        executor.setQueueCapacity(properties.getHashQueueCapacity());
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "passwordHash");
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(PasswordHashRejectedException.INSTANCE);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
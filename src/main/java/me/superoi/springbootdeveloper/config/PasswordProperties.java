@@ -0,0 +1,18 @@
+package me.superoi.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.password")
+public class PasswordProperties {
+
+    private String algorithm = "bcrypt"; // 새로 저장할 해시 알고리즘 : bcrypt, pbkdf2
+    private int bcryptStrength = 10; // 바꾸면 다음 로그인 때 기존 해시를 새 비용으로 다시 저장
+    private int hashThreads = 2; // 해싱 전용 스레드 수
+    private int hashQueueCapacity = 100; // 대기 중인 해싱 작업 최대 수, 넘으면 가입 요청 거절
+}
@@ -0,0 +1,19 @@
+package me.superoi.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResponseSizeMetricsConfig {
+
+    // blog.http.response.bytes{type, encoding} 기록
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> responseSizeValveCustomizer(
+            MeterRegistry meterRegistry
+    ) {
+        return factory -> factory.addContextValves(new ResponseSizeValve(meterRegistry));
+    }
+}
@@ -0,0 +1,65 @@
+package me.superoi.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 응답 본문 크기 측정 : 애플리케이션이 쓴 바이트를 콘텐츠 종류/인코딩별로 기록
+// Tomcat 동적 압축은 이 값보다 아래 단계에서 일어나므로 실제 전송량(tomcat.global.sent)과 비교하면 압축률이 나옴
+// 비동기 응답(스트리밍 내보내기 등)은 이 시점에 끝나지 않으므로 제외
+public class ResponseSizeValve extends ValveBase {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public ResponseSizeValve(MeterRegistry meterRegistry) {
+        super(true);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        getNext().invoke(request, response);
+        if (request.isAsync()) {
+            return;
+        }
+
+        String type = type(response.getContentType());
+        String contentEncoding = response.getHeader("Content-Encoding");
+        String encoding = contentEncoding != null ? contentEncoding : "identity";
+        summaries.computeIfAbsent(type + "/" + encoding, key -> DistributionSummary.builder("blog.http.response.bytes")
+                        .description("response body bytes written by the application")
+                        .baseUnit("bytes")
+                        .tag("type", type)
+                        .tag("encoding", encoding)
+                        .register(meterRegistry))
+                .record(response.getContentWritten());
+    }
+
+    // 태그 수가 늘지 않도록 몇 가지로만 분류
+    private static String type(String contentType) {
+        if (contentType == null) {
+            return "none";
+        }
+        if (contentType.startsWith("text/html")) {
+            return "html";
+        }
+        if (contentType.contains("json")) {
+            return "json";
+        }
+        if (contentType.contains("javascript")) {
+            return "javascript";
+        }
+        if (contentType.startsWith("text/css")) {
+            return "css";
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,46 @@
+package me.superoi.springbootdeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.servlet.resource.VersionStrategy;
+
+// 정적 리소스 Cache-Control : 현재 내용 해시가 붙은 URL(/js/article-<md5>.js)만 오래 캐시
+// 해시 없는 URL(/js/article.js, /favicon.ico, /img/...)은 내용이 바뀌어도 URL이 같으므로 매번 재검증(no-cache + Last-Modified)
+// 리소스 핸들러는 spring.web.resources.cache 설정이 없으면 Cache-Control을 쓰지 않으므로 여기서 정한 값이 그대로 나감
+@RequiredArgsConstructor
+public class StaticResourceCacheInterceptor implements HandlerInterceptor {
+
+    private static final VersionStrategy VERSION_STRATEGY = new ContentVersionStrategy();
+
+    private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+    private final CacheControl versionedCacheControl;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof ResourceHttpRequestHandler) {
+            CacheControl cacheControl = isCurrentVersion(request) ? versionedCacheControl : CacheControl.noCache();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return true;
+    }
+
+    // 요청 URL이 해시를 뗀 URL을 다시 버전 URL로 바꾼 결과와 같을 때만 현재 내용의 해시
+    // (-뒤에 해시가 아닌 글자가 붙은 파일명은 여기서 걸러짐, 해시가 틀린 URL은 리소스 핸들러가 404)
+    private boolean isCurrentVersion(HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+        String version = VERSION_STRATEGY.extractVersion(requestUri);
+        if (version == null) {
+            return false;
+        }
+        String unversionedUri = VERSION_STRATEGY.removeVersion(requestUri, version);
+        return requestUri.equals(resourceUrlProvider.getObject().getForRequestUrl(request, unversionedUri));
+    }
+}
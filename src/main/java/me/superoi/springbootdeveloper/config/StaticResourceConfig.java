@@ -0,0 +1,25 @@
+package me.superoi.springbootdeveloper.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+@Configuration
+@RequiredArgsConstructor
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private final StaticResourceProperties properties;
+    // WebMvcConfigurer를 모으는 설정 클래스가 만드는 빈이라 바로 주입하면 순환 참조
+    private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+    // 리소스 핸들러 매핑에도 적용됨 (핸들러 종류는 인터셉터에서 확인)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StaticResourceCacheInterceptor(resourceUrlProvider,
+                CacheControl.maxAge(properties.getVersionedMaxAge()).cachePublic()));
+    }
+}
@@ -0,0 +1,17 @@
+package me.superoi.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.static-resources")
+public class StaticResourceProperties {
+
+    private Duration versionedMaxAge = Duration.ofDays(365); // 내용 해시가 붙은 URL의 public 캐시 기간
+}
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import me.superoi.springbootdeveloper.config.jwt.TokenProvider;
+import me.superoi.springbootdeveloper.config.jwt.VerifiedTokenCache;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,6 +17,7 @@ import java.io.IOException;
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
 
@@ -26,20 +28,20 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        // 요청 헤더의 Authorization 키의 값 조회
-        String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
-        // 가져온 값에서 접두사 제거
-        String token = getAccessToken(authorizationHeader);
-        // 가져온 토큰이 유효한지 확인하고 유효한 경우 인증 정보 설정
-        if (tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        // 요청 헤더의 Authorization 값에서 접두사를 뗀 액세스 토큰
+        String token = getAccessToken(request);
+        // 검증된 토큰 캐시를 먼저 확인하고, 없을 때만 한 번 검증/파싱해서 유효한 경우 인증 정보 설정
+        verifiedTokenCache.verify(token).ifPresent(verifiedToken -> {
+            Authentication authentication = tokenProvider.getAuthentication(verifiedToken);
             SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+        });
 
         filterChain.doFilter(request, response); // 다음 필터로 요청 넘김
     }
 
-    private String getAccessToken(String authorizationHeader) {
+    // Authorization: Bearer 헤더의 액세스 토큰, 없으면 null
+    public static String getAccessToken(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
         if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
             return authorizationHeader.substring(TOKEN_PREFIX.length());
         }
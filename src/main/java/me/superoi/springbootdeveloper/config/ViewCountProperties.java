@@ -0,0 +1,19 @@
+package me.superoi.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.views")
+public class ViewCountProperties {
+
+    private Duration flushInterval = Duration.ofSeconds(5); // DB 반영 주기 = 비정상 종료 시 잃을 수 있는 최대 구간
+    private int flushBatchSize = 500; // UPDATE 배치 한 번에 담을 글 수
+    private int topSize = 50; // 메모리에 유지할 조회수 상위 글 수
+}
@@ -0,0 +1,67 @@
+package me.superoi.springbootdeveloper.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// blog.threads.virtual=true 일 때 Tomcat 요청 처리와 애플리케이션 비동기 작업을 가상 스레드로 실행
+// 가상 스레드는 개수 제한이 없으므로 DB 커넥션을 기다리는 스레드 수를 세마포어로 Hikari 풀 크기에 맞춤
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "blog.threads.virtual", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService virtualThreadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // Tomcat 커넥터의 고정 크기 워커 풀을 요청당 가상 스레드로 교체
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService virtualThreadExecutor
+    ) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    // 스프링 MVC 비동기 처리(StreamingResponseBody 등)와 @Async 기본 실행기
+    // 이 빈이 있으면 Boot가 taskExecutor 별칭을 만들지 않으므로 직접 등록
+    // (TaskScheduler 빈이 있는 상태에서 taskExecutor가 없으면 @Async는 SimpleAsyncTaskExecutor로 실행됨)
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            ObjectProvider<VirtualThreadProperties> virtualThreadProperties
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                VirtualThreadProperties properties = virtualThreadProperties.getObject();
+                int permits = properties.getDbPermits() > 0 ? properties.getDbPermits() : hikari.getMaximumPoolSize();
+                log.info("Limiting concurrent connection acquisition on '{}' to {} permits", beanName, permits);
+                return new ConnectionLimitingDataSource(hikari, permits, hikari.getConnectionTimeout());
+            }
+        };
+    }
+}
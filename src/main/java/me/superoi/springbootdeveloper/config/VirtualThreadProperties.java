@@ -0,0 +1,16 @@
+package me.superoi.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.threads")
+public class VirtualThreadProperties {
+
+    private boolean virtual = false; // true : 요청 처리와 비동기 작업을 가상 스레드에서 실행
+    private int dbPermits = 0; // 동시에 커넥션을 잡을 수 있는 가상 스레드 수, 0이면 Hikari maximumPoolSize
+}
@@ -3,9 +3,10 @@ package me.superoi.springbootdeveloper.config;
 import lombok.RequiredArgsConstructor;
 import me.superoi.springbootdeveloper.config.jwt.TokenProvider;
 import me.superoi.springbootdeveloper.config.oauth.OAuth2AuthorizationRequestBasedOnCookieRepository;
+import me.superoi.springbootdeveloper.config.oauth.OAuth2AuthorizationRequestCodec;
 import me.superoi.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
 import me.superoi.springbootdeveloper.config.oauth.OAuth2UserCustomerService;
-import me.superoi.springbootdeveloper.repository.RefreshTokenRepository;
+import me.superoi.springbootdeveloper.service.RefreshTokenService;
 import me.superoi.springbootdeveloper.service.UserService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,8 +28,9 @@ public class WebOAuthSecurityConfig {
 
     private final OAuth2UserCustomerService oAuth2UserCustomerService;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final OAuth2AuthorizationRequestCodec oAuth2AuthorizationRequestCodec;
 
     @Bean
     // 스프링 시큐리티 기능 비활성화
@@ -88,7 +90,7 @@ public class WebOAuthSecurityConfig {
     public OAuth2SuccessHandler oAuth2SuccessHandler() {
         return new OAuth2SuccessHandler(
                 tokenProvider,
-                refreshTokenRepository,
+                refreshTokenService,
                 oAuth2AuthorizationRequestBasedOnCookieRepository(),
                 userService
         );
@@ -101,7 +103,7 @@ public class WebOAuthSecurityConfig {
 
     @Bean
     public OAuth2AuthorizationRequestBasedOnCookieRepository oAuth2AuthorizationRequestBasedOnCookieRepository() {
-        return new OAuth2AuthorizationRequestBasedOnCookieRepository();
+        return new OAuth2AuthorizationRequestBasedOnCookieRepository(oAuth2AuthorizationRequestCodec);
     }
 
     @Bean
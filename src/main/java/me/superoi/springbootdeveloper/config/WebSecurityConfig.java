@@ -1,7 +1,12 @@
 package me.superoi.springbootdeveloper.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 
+import me.superoi.springbootdeveloper.config.jwt.TokenProvider;
+import me.superoi.springbootdeveloper.config.jwt.VerifiedTokenCache;
+import me.superoi.springbootdeveloper.config.ratelimit.RateLimitFilter;
+import me.superoi.springbootdeveloper.config.ratelimit.RateLimiter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,7 +16,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.util.Map;
 
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
 import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
@@ -22,6 +33,10 @@ import static org.springframework.security.web.util.matcher.AntPathRequestMatche
 public class WebSecurityConfig {
 
 	private final UserDetailsService userDetailsService;
+	private final TokenProvider tokenProvider;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final RateLimiter rateLimiter;
+	private final ObjectMapper objectMapper;
 
 	// 1. 스프링 시큐리티 기능 비활성화
 	@Bean
@@ -59,8 +74,16 @@ public class WebSecurityConfig {
 			.logout()
 			.logoutSuccessUrl("/")
 			.invalidateHttpSession(true)
+			// 로그아웃 요청에 실린 액세스 토큰은 만료 전이라도 더 이상 인증에 쓰지 않음
+			.addLogoutHandler((request, response, authentication) ->
+				verifiedTokenCache.revoke(TokenAuthenticationFilter.getAccessToken(request)))
 			.and()
 			.csrf().disable()
+			// Authorization: Bearer 헤더로 들어온 액세스 토큰 인증 (폼로그인 필터 앞에 배치)
+			.addFilterBefore(new TokenAuthenticationFilter(tokenProvider, verifiedTokenCache),
+				UsernamePasswordAuthenticationFilter.class)
+			// 인증 정보가 정해진 뒤 사용자(없으면 IP)별 요청 제한 (blog.rate-limit)
+			.addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper), TokenAuthenticationFilter.class)
 			.build();
 	}
 
@@ -68,19 +91,30 @@ public class WebSecurityConfig {
 	@Bean
 	public AuthenticationManager authenticationManager(
 		HttpSecurity httpSecurity,
-		BCryptPasswordEncoder bCryptPasswordEncoder,
+		PasswordEncoder passwordEncoder,
 		UserDetailsService userDetailsService
 	) throws Exception {
+		// UserDetailService가 UserDetailsPasswordService도 구현하므로
+		// 로그인 성공 시 해시 알고리즘/비용이 바뀌었으면 새 설정으로 다시 저장됨
 		return httpSecurity.getSharedObject(AuthenticationManagerBuilder.class)
 			.userDetailsService(userDetailsService) // 8. 사용자 정보 서비스 설정
-			.passwordEncoder(bCryptPasswordEncoder)
+			.passwordEncoder(passwordEncoder)
 			.and()
 			.build();
 	}
 
 	// 9. 패스워드 인코더로 사용할 빈 등록
+	// 저장 형식 : {bcrypt}..., {pbkdf2}... (접두사 없는 기존 해시는 bcrypt로 검증)
 	@Bean
-	public BCryptPasswordEncoder bCryptPasswordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(passwordProperties.getBcryptStrength());
+		Map<String, PasswordEncoder> encoders = Map.of(
+			"bcrypt", bcrypt,
+			"pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+		DelegatingPasswordEncoder passwordEncoder =
+			new DelegatingPasswordEncoder(passwordProperties.getAlgorithm(), encoders);
+		passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return passwordEncoder;
 	}
-}
+}
\ No newline at end of file
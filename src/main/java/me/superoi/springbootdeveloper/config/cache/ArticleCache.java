@@ -0,0 +1,164 @@
+package me.superoi.springbootdeveloper.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.superoi.springbootdeveloper.config.datasource.ReadWriteRoutingDataSource;
+import me.superoi.springbootdeveloper.domain.Article;
+import me.superoi.springbootdeveloper.dto.ArticlePageResponse;
+import me.superoi.springbootdeveloper.dto.ArticleSummary;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 글 단건, 목록 첫 페이지, 작성자별 글 수 캐시
+// 1차 : 인스턴스 로컬 Caffeine 캐시 (크기/TTL 제한), 2차 : 선택적인 공유 캐시
+@Component
+public class ArticleCache {
+
+    private static final String ARTICLE_KEY_PREFIX = "article:";
+    private static final String LIST_KEY_PREFIX = "articles:first:";
+
+    private final ArticleCacheProperties properties;
+    private final SharedArticleCache sharedCache; // 비활성화 시 null
+    private final Cache<Long, Article> articles;
+    private final Cache<Integer, ArticlePageResponse<ArticleSummary>> firstPages;
+    private final Cache<String, Long> authorCounts; // 작성자(이메일) -> 글 수 (로컬 전용)
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    public ArticleCache(
+            ArticleCacheProperties properties,
+            ObjectProvider<SharedArticleCache> sharedCache,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.sharedCache = sharedCache.getIfAvailable();
+        this.articles = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumListPages())
+                .expireAfterWrite(properties.getListTtl())
+                .recordStats()
+                .build();
+        this.authorCounts = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumAuthorCounts())
+                .expireAfterWrite(properties.getAuthorCountTtl())
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등 Actuator/Prometheus로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, articles, "articles");
+        CaffeineCacheMetrics.monitor(meterRegistry, firstPages, "articleFirstPages");
+        CaffeineCacheMetrics.monitor(meterRegistry, authorCounts, "articleAuthorCounts");
+        this.sharedHits = Counter.builder("blog.cache.shared.gets").tag("result", "hit").register(meterRegistry);
+        this.sharedMisses = Counter.builder("blog.cache.shared.gets").tag("result", "miss").register(meterRegistry);
+    }
+
+    // 캐시에 없으면 loader로 조회 후 저장 (loader가 던진 예외는 캐싱하지 않음)
+    public Article getArticle(long id, Supplier<Article> loader) {
+        return articles.get(id, key -> loadThroughShared(ARTICLE_KEY_PREFIX + key, Article.class, properties.getTtl(), loader));
+    }
+
+    public ArticlePageResponse<ArticleSummary> getFirstPage(
+            int size,
+            Supplier<ArticlePageResponse<ArticleSummary>> loader
+    ) {
+        return firstPages.get(size, key ->
+                loadThroughShared(LIST_KEY_PREFIX + key, ArticlePageResponse.class, properties.getListTtl(), loader));
+    }
+
+    public long getAuthorCount(String author, Function<String, Long> loader) {
+        return authorCounts.get(author, key -> ReadWriteRoutingDataSource.readFromPrimary(() -> loader.apply(key)));
+    }
+
+    // 캐시에 올라와 있을 때만 반환 (DB 조회 없음)
+    public Optional<Article> getArticleIfPresent(long id) {
+        return Optional.ofNullable(articles.getIfPresent(id));
+    }
+
+    // 글이 수정/삭제되면 단건과 목록 캐시를 함께 무효화
+    public void evictArticle(long id) {
+        evictAfterCommit(() -> {
+            articles.invalidate(id);
+            if (sharedCache != null) {
+                sharedCache.evict(ARTICLE_KEY_PREFIX + id);
+            }
+        });
+        evictLists();
+    }
+
+    // 새 글이 추가되면 목록 캐시만 무효화
+    public void evictLists() {
+        evictAfterCommit(() -> {
+            firstPages.invalidateAll();
+            if (sharedCache != null) {
+                sharedCache.evictByPrefix(LIST_KEY_PREFIX);
+            }
+        });
+    }
+
+    // 작성자의 글이 추가/삭제되면 그 작성자의 글 수만 무효화
+    public void evictAuthorCount(String author) {
+        evictAfterCommit(() -> authorCounts.invalidate(author));
+    }
+
+    // 일괄 가져오기처럼 여러 작성자의 글이 한꺼번에 바뀌면 전체 무효화
+    public void evictAuthorCounts() {
+        evictAfterCommit(authorCounts::invalidateAll);
+    }
+
+    public void clear() {
+        articles.invalidateAll();
+        firstPages.invalidateAll();
+        authorCounts.invalidateAll();
+        if (sharedCache != null) {
+            sharedCache.evictByPrefix(ARTICLE_KEY_PREFIX);
+            sharedCache.evictByPrefix(LIST_KEY_PREFIX);
+        }
+    }
+
+    // DB 조회는 복제본이 아닌 primary에서 (ReadWriteRoutingDataSource.readFromPrimary 참고)
+    @SuppressWarnings("unchecked")
+    private <T> T loadThroughShared(String key, Class<?> type, Duration ttl, Supplier<T> loader) {
+        if (sharedCache == null) {
+            return ReadWriteRoutingDataSource.readFromPrimary(loader);
+        }
+
+        Optional<Object> shared = sharedCache.get(key).filter(type::isInstance);
+        if (shared.isPresent()) {
+            sharedHits.increment();
+            return (T) shared.get();
+        }
+
+        sharedMisses.increment();
+        T value = ReadWriteRoutingDataSource.readFromPrimary(loader);
+        sharedCache.put(key, value, ttl);
+        return value;
+    }
+
+    // 지금 바로 지우고, 트랜잭션 안이라면 커밋 후 한 번 더 지움
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐싱하는 경우를 막음
+    private static void evictAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package me.superoi.springbootdeveloper.config.cache;
+
+import me.superoi.springbootdeveloper.service.ArticleViewCounter;
+import me.superoi.springbootdeveloper.service.BlogService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ArticleCacheConfig {
+
+    // blog.cache.shared.enabled=true 인데 별도 구현(Redis 등)이 없으면 인메모리 대역 사용
+    @Bean
+    @ConditionalOnProperty(name = "blog.cache.shared.enabled", havingValue = "true")
+    @ConditionalOnMissingBean(SharedArticleCache.class)
+    public SharedArticleCache sharedArticleCache() {
+        return new InMemorySharedArticleCache();
+    }
+
+    // 렌더링된 글/목록 HTML 캐시 필터 (기본 순서가 가장 낮아 스프링 시큐리티 필터 다음에 실행)
+    @Bean
+    @ConditionalOnProperty(name = "blog.cache.pages.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RenderedPageCacheFilter> renderedPageCacheFilter(
+            RenderedPageCache renderedPageCache,
+            BlogService blogService,
+            ArticleViewCounter articleViewCounter
+    ) {
+        FilterRegistrationBean<RenderedPageCacheFilter> registration = new FilterRegistrationBean<>(
+                new RenderedPageCacheFilter(renderedPageCache, blogService, articleViewCounter));
+        registration.addUrlPatterns("/articles", "/articles/*");
+        return registration;
+    }
+}
@@ -0,0 +1,37 @@
+package me.superoi.springbootdeveloper.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.cache")
+public class ArticleCacheProperties {
+
+    private long maximumSize = 10_000; // 로컬 캐시에 보관할 최대 글 수
+    private Duration ttl = Duration.ofMinutes(10); // 글 단건 캐시 유지 시간
+    private int maximumListPages = 10; // 첫 페이지 목록은 페이지 크기별로 캐싱
+    private Duration listTtl = Duration.ofSeconds(30); // 목록 캐시 유지 시간
+    private long maximumAuthorCounts = 10_000; // 작성자별 글 수 캐시에 보관할 최대 작성자 수
+    private Duration authorCountTtl = Duration.ofMinutes(10); // 작성자별 글 수 유지 시간 (작성/삭제/가져오기 시 무효화)
+    private Shared shared = new Shared();
+    private Pages pages = new Pages();
+
+    @Setter
+    @Getter
+    public static class Shared {
+        private boolean enabled = false; // 공유 캐시(2차) 사용 여부
+    }
+
+    @Setter
+    @Getter
+    public static class Pages {
+        private boolean enabled = true; // 렌더링된 글/목록 HTML 캐시 사용 여부
+        private long maximumBytes = 32 * 1024 * 1024; // 보관할 HTML 전체 크기 상한
+    }
+}
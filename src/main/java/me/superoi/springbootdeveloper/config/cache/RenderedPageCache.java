@@ -0,0 +1,73 @@
+package me.superoi.springbootdeveloper.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.superoi.springbootdeveloper.service.search.ArticleChangedEvent;
+import me.superoi.springbootdeveloper.service.search.ArticlesImportedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+// 렌더링이 끝난 글 상세/목록 첫 페이지 HTML 캐시
+// 항목마다 만들 때의 버전(ETag)을 같이 저장하고, 조회 시 현재 버전과 다르면 없는 것으로 취급
+// 글 상세는 사용자별 내용이 없어 모든 사용자가 공유, 목록은 비로그인 화면만 저장 (RenderedPageCacheFilter 참고)
+@Component
+public class RenderedPageCache {
+
+    private static final String LIST_KEY = "articles";
+    private static final String ARTICLE_KEY_PREFIX = "article:";
+
+    private final Cache<String, RenderedPage> pages;
+
+    public RenderedPageCache(ArticleCacheProperties properties, MeterRegistry meterRegistry) {
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(properties.getPages().getMaximumBytes())
+                .weigher((String key, RenderedPage page) -> page.body().length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "renderedPages");
+    }
+
+    public Optional<RenderedPage> getArticle(long id, String version) {
+        return get(ARTICLE_KEY_PREFIX + id, version);
+    }
+
+    public void putArticle(long id, RenderedPage page) {
+        pages.put(ARTICLE_KEY_PREFIX + id, page);
+    }
+
+    public Optional<RenderedPage> getList(String version) {
+        return get(LIST_KEY, version);
+    }
+
+    public void putList(RenderedPage page) {
+        pages.put(LIST_KEY, page);
+    }
+
+    // 버전이 키에 들어 있어 수정된 글은 자연히 빗나가지만, 메모리를 바로 돌려받기 위해 변경 시 비움
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        pages.invalidate(ARTICLE_KEY_PREFIX + event.getArticleId());
+        pages.invalidate(LIST_KEY);
+    }
+
+    @EventListener
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        pages.invalidate(LIST_KEY);
+    }
+
+    public void clear() {
+        pages.invalidateAll();
+    }
+
+    private Optional<RenderedPage> get(String key, String version) {
+        return Optional.ofNullable(pages.getIfPresent(key)).filter(page -> page.version().equals(version));
+    }
+
+    public record RenderedPage(String version, String contentType, byte[] body) {
+    }
+}
@@ -0,0 +1,129 @@
+package me.superoi.springbootdeveloper.config.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import me.superoi.springbootdeveloper.config.error.exception.BusinessBaseException;
+import me.superoi.springbootdeveloper.service.ArticleViewCounter;
+import me.superoi.springbootdeveloper.service.BlogService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// GET /articles (첫 페이지), /articles/{id} 의 렌더링 결과를 캐싱해서 적중 시 컨트롤러/DB/템플릿을 모두 건너뜀
+// 스프링 시큐리티 필터 뒤에서 동작하므로 인가 규칙은 그대로 적용됨
+// 적중 여부와 관계없이 ETag를 내려 주고, If-None-Match가 같으면 304
+// 목록 화면은 로그인 여부에 따라 헤더(로그인/로그아웃, 내 글)가 달라지므로 비로그인 요청만 캐싱/제공
+// 응답은 모두 private : 공유 프록시가 저장하지 않음
+@RequiredArgsConstructor
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern ARTICLE_PATH = Pattern.compile("^/articles/(\\d+)$");
+    private static final String LIST_PATH = "/articles";
+    private static final String CACHE_CONTROL = "private, no-cache";
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final RenderedPageCache renderedPageCache;
+    private final BlogService blogService;
+    private final ArticleViewCounter articleViewCounter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 커서가 붙은 목록 페이지 등 쿼리스트링이 있는 요청은 캐싱하지 않음
+        return !"GET".equals(request.getMethod()) || request.getQueryString() != null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher article = ARTICLE_PATH.matcher(path);
+        if (article.matches()) {
+            long id = Long.parseLong(article.group(1));
+            String version;
+            try {
+                version = "\"page-" + blogService.findVersion(id).getETag().replace("\"", "") + "\"";
+            } catch (BusinessBaseException e) {
+                // 없는 글 등은 컨트롤러가 원래대로 처리
+                filterChain.doFilter(request, response);
+                return;
+            }
+            Optional<RenderedPageCache.RenderedPage> cached = renderedPageCache.getArticle(id, version);
+            if (cached.isPresent()) {
+                articleViewCounter.increment(id);
+            }
+            serve(request, response, filterChain, version, cached, page -> renderedPageCache.putArticle(id, page));
+        } else if (LIST_PATH.equals(path) && isAnonymous()) {
+            String version = "\"page-" + blogService.getCollectionETag().replace("\"", "") + "\"";
+            serve(request, response, filterChain, version, renderedPageCache.getList(version),
+                    renderedPageCache::putList);
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private void serve(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            String version,
+            Optional<RenderedPageCache.RenderedPage> cached,
+            Consumer<RenderedPageCache.RenderedPage> store
+    ) throws ServletException, IOException {
+        if (cached.isPresent()) {
+            RenderedPageCache.RenderedPage page = cached.get();
+            response.setHeader(HttpHeaders.ETAG, version);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            if (version.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            response.setContentType(page.contentType());
+            response.setContentLength(page.body().length);
+            response.getOutputStream().write(page.body());
+            return;
+        }
+
+        // 캐시에 없으면 원래대로 렌더링하면서 본문을 모아 둠
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (isCacheable(wrapper)) {
+            wrapper.setHeader(HttpHeaders.ETAG, version);
+            wrapper.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            store.accept(new RenderedPageCache.RenderedPage(version, wrapper.getContentType(),
+                    wrapper.getContentAsByteArray()));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    // 시큐리티 필터 뒤에서 실행되므로 비로그인 요청은 익명 인증 객체를 가짐
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || TRUST_RESOLVER.isAnonymous(authentication);
+    }
+
+    // 정상 렌더링된 HTML만 저장 : 세션 쿠키 등 사용자별 응답 헤더가 붙은 경우는 제외
+    private static boolean isCacheable(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))
+                && !response.containsHeader(HttpHeaders.SET_COOKIE);
+    }
+}
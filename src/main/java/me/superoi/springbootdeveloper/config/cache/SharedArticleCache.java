@@ -0,0 +1,17 @@
+package me.superoi.springbootdeveloper.config.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 인스턴스 간에 공유되는 2차 캐시 (Redis 등으로 교체 가능)
+public interface SharedArticleCache {
+
+    Optional<Object> get(String key);
+
+    void put(String key, Object value, Duration ttl);
+
+    void evict(String key);
+
+    // prefix로 시작하는 키 모두 제거
+    void evictByPrefix(String prefix);
+}
@@ -0,0 +1,19 @@
+package me.superoi.springbootdeveloper.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 복제본 접속 정보는 blog.datasource.replica.* (spring.datasource.* 와 같은 키, hikari 포함)
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.datasource")
+public class DataSourceRoutingProperties {
+
+    private Duration readYourWritesWindow = Duration.ofSeconds(5); // 쓰기 후 이 시간 동안 그 사용자의 읽기는 primary로 (복제 지연보다 길게)
+    private long maximumStickyUsers = 100_000; // 최근 쓰기 사용자 추적 상한
+}
@@ -0,0 +1,101 @@
+package me.superoi.springbootdeveloper.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// readOnly 트랜잭션은 복제본, 나머지(쓰기 트랜잭션, 트랜잭션 밖)는 primary로 보냄
+// 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 반드시 LazyConnectionDataSourceProxy 로 감싸서
+// 첫 SQL 실행 때 커넥션을 고르도록 해야 함
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final ReadYourWritesTracker tracker;
+    private final Counter writes;
+    private final Counter reads;
+    private final Counter stickyReads;
+    private final Counter cacheLoads;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReadYourWritesTracker tracker,
+            MeterRegistry meterRegistry
+    ) {
+        this.tracker = tracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        // 커넥션 풀별 상태는 hikaricp.*{pool=primary|replica}
+        this.writes = routes(meterRegistry, Target.PRIMARY, "write");
+        this.reads = routes(meterRegistry, Target.REPLICA, "read");
+        this.stickyReads = routes(meterRegistry, Target.PRIMARY, "read-your-writes");
+        this.cacheLoads = routes(meterRegistry, Target.PRIMARY, "cache-load");
+    }
+
+    // 캐시에 저장할 값은 primary에서 읽음
+    // 복제본에서 읽으면 무효화 직후 지연된 이전 값이 다시 캐싱되어 TTL 동안 남음
+    // 커넥션은 트랜잭션의 첫 SQL 때 정해지므로 트랜잭션에서 가장 먼저 실행되는 조회여야 함
+    // 라우팅을 쓰지 않을 때(단일 DataSource)는 아무 영향 없음
+    public static <T> T readFromPrimary(Supplier<T> query) {
+        if (PRIMARY_READS.get() != null) {
+            return query.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            markWriterAfterCommit();
+            return Target.PRIMARY;
+        }
+        if (PRIMARY_READS.get() != null) {
+            cacheLoads.increment();
+            return Target.PRIMARY;
+        }
+        // 방금 쓴 사용자는 복제 지연 동안 자기 글이 안 보이지 않도록 primary에서 읽음
+        if (tracker.isCurrentUserSticky()) {
+            stickyReads.increment();
+            return Target.PRIMARY;
+        }
+        reads.increment();
+        return Target.REPLICA;
+    }
+
+    private void markWriterAfterCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.markCurrentUser();
+            }
+        });
+    }
+
+    private static Counter routes(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("blog.datasource.routes")
+                .tag("target", target.name().toLowerCase(Locale.ROOT))
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -9,7 +9,10 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "E2", "잘못된 HTTP 메서드를 호출했습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E3", "서버 에러가 발생했 습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "E4", "존재하지 않는 엔티티입니다."),
-    ARTICLE_NOT_FOUND(HttpStatus.NOT_FOUND, "A1", "존재하지 않는 아티클입니다.");
+    CONFLICT(HttpStatus.CONFLICT, "E5", "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 시도해 주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "E6", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    ARTICLE_NOT_FOUND(HttpStatus.NOT_FOUND, "A1", "존재하지 않는 아티클입니다."),
+    ARTICLE_PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "A2", "아티클이 If-Match 버전 이후에 수정되었습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -4,10 +4,22 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ErrorResponse {
 
+    // 에러 코드별 기본 응답은 변하지 않으므로 미리 만들어 공유
+    private static final Map<ErrorCode, ErrorResponse> DEFAULTS = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            DEFAULTS.put(code, new ErrorResponse(code));
+        }
+    }
+
     private String message;
     private String code;
 
@@ -22,7 +34,7 @@ public class ErrorResponse {
     }
 
     public static ErrorResponse of(final ErrorCode code) {
-        return new ErrorResponse(code);
+        return DEFAULTS.get(code);
     }
 
     public static ErrorResponse of(final ErrorCode code, final String message) {
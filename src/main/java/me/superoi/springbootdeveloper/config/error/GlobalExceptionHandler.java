@@ -1,35 +1,85 @@
 package me.superoi.springbootdeveloper.config.error;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import me.superoi.springbootdeveloper.config.error.exception.BusinessBaseException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 @Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler {
+
+    private final StackTraceSampler stackTraceSampler;
+    // 상태 코드 + 본문이 에러 코드마다 고정이므로 응답 객체도 미리 만들어 둠 (ResponseEntity는 변경 불가)
+    private final Map<ErrorCode, ResponseEntity<ErrorResponse>> responses = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(LoggingProperties loggingProperties) {
+        this.stackTraceSampler = new StackTraceSampler(loggingProperties.getBusinessStackTraceInterval());
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            responses.put(errorCode, new ResponseEntity<>(ErrorResponse.of(errorCode), errorCode.getStatus()));
+        }
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     protected ResponseEntity<ErrorResponse> handle(HttpRequestMethodNotSupportedException e) {
-        log.error("HttpRequestMethodNotSupportedException", e);
+        log.warn("HttpRequestMethodNotSupportedException: {}", e.getMessage());
         return createErrorResponseEntity(ErrorCode.METHOD_NOT_ALLOWED);
     }
 
+    // 예상된 오류(없는 글, 잘못된 입력)는 요청마다 로그를 남기지 않음
+    // 에러 코드별로 일정 간격에 한 번만 코드, 요청 경로, 그 사이 건너뛴 수를 WARN 으로 남기고 나머지는 DEBUG 한 줄
+    // 스택 트레이스는 던진 곳에서 채운 예외일 때만 함께 남김 (경량 예외는 처리 시점 호출 경로를 지어내지 않음)
     @ExceptionHandler(BusinessBaseException.class)
     protected ResponseEntity<ErrorResponse> handle(BusinessBaseException e) {
-        log.error("BusinessException", e);
-        return createErrorResponseEntity(e.getErrorCode());
+        ErrorCode errorCode = e.getErrorCode();
+        if (stackTraceSampler.sample(errorCode)) {
+            String request = currentRequest();
+            long suppressed = stackTraceSampler.drainSuppressed(errorCode);
+            if (e.getStackTrace().length > 0) {
+                log.warn("BusinessException {} at {} ({} more since last sample)", errorCode.getCode(),
+                        request, suppressed, e);
+            } else {
+                log.warn("BusinessException {} at {} ({} more since last sample): {}", errorCode.getCode(),
+                        request, suppressed, e.getMessage());
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug("BusinessException {}: {}", errorCode.getCode(), e.getMessage());
+        }
+        return createErrorResponseEntity(errorCode);
+    }
+
+    // 낙관적 잠금 충돌 : 읽은 뒤 커밋 전에 다른 요청이 먼저 수정함
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handle(OptimisticLockingFailureException e) {
+        log.info("OptimisticLockingFailureException: {}", e.getMessage());
+        return createErrorResponseEntity(ErrorCode.CONFLICT);
     }
 
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ErrorResponse> handle(Exception e) {
-        e.printStackTrace();
         log.error("Exception", e);
         return createErrorResponseEntity(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 
+    // 던진 위치 대신 어느 요청에서 났는지 남김 (요청 밖에서 호출되면 "-")
+    private static String currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+        return "-";
+    }
+
     private ResponseEntity<ErrorResponse> createErrorResponseEntity(ErrorCode errorCode) {
-        return new ResponseEntity<>(ErrorResponse.of(errorCode), errorCode.getStatus());
+        return responses.get(errorCode);
     }
 }
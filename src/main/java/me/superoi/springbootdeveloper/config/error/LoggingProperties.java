@@ -0,0 +1,19 @@
+package me.superoi.springbootdeveloper.config.error;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.logging")
+public class LoggingProperties {
+
+    // 비즈니스 예외(404 등)는 에러 코드마다 이 간격에 한 번만 요청 경로와 건너뛴 수를 WARN 으로 남김
+    // 스택 트레이스는 던진 곳에서 채운 예외(경량 예외가 아닌 것)만 함께 남김
+    private Duration businessStackTraceInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,44 @@
+package me.superoi.springbootdeveloper.config.error;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 에러 코드별 WARN 로그 빈도 제한 (잠금 없이 CAS 한 번)
+// 간격 안에서 처음 온 요청만 sample()이 true, 나머지는 건너뛴 수만 셈
+public class StackTraceSampler {
+
+    private final long intervalNanos;
+    private final Map<ErrorCode, Window> windows = new EnumMap<>(ErrorCode.class);
+
+    public StackTraceSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        for (ErrorCode code : ErrorCode.values()) {
+            windows.put(code, new Window());
+        }
+    }
+
+    public boolean sample(ErrorCode code) {
+        Window window = windows.get(code);
+        long now = System.nanoTime();
+        long next = window.nextAllowed.get();
+        if (now - next >= 0 && window.nextAllowed.compareAndSet(next, now + intervalNanos)) {
+            return true;
+        }
+        window.suppressed.increment();
+        return false;
+    }
+
+    // 마지막으로 남긴 뒤 건너뛴 수 (읽으면서 초기화)
+    public long drainSuppressed(ErrorCode code) {
+        return windows.get(code).suppressed.sumThenReset();
+    }
+
+    private static class Window {
+        // 처음 한 번은 바로 남기도록 과거 시점으로 시작
+        private final AtomicLong nextAllowed = new AtomicLong(System.nanoTime() - 1);
+        private final LongAdder suppressed = new LongAdder();
+    }
+}
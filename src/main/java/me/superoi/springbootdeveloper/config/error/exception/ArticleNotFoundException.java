@@ -3,6 +3,10 @@ package me.superoi.springbootdeveloper.config.error.exception;
 import me.superoi.springbootdeveloper.config.error.ErrorCode;
 
 public class ArticleNotFoundException extends NotFoundException {
+
+    // 없는 /articles/{id} 요청마다 새로 만들지 않고 공유
+    public static final ArticleNotFoundException INSTANCE = new ArticleNotFoundException();
+
     public ArticleNotFoundException() {
         super(ErrorCode.ARTICLE_NOT_FOUND);
     }
@@ -0,0 +1,13 @@
+package me.superoi.springbootdeveloper.config.error.exception;
+
+import me.superoi.springbootdeveloper.config.error.ErrorCode;
+
+// If-Match 버전이 현재 글 버전과 다를 때 (412), 스택 트레이스 없는 경량 예외
+public class ArticlePreconditionFailedException extends BusinessBaseException {
+
+    public static final ArticlePreconditionFailedException INSTANCE = new ArticlePreconditionFailedException();
+
+    public ArticlePreconditionFailedException() {
+        super(ErrorCode.ARTICLE_PRECONDITION_FAILED.getMessage(), ErrorCode.ARTICLE_PRECONDITION_FAILED, false);
+    }
+}
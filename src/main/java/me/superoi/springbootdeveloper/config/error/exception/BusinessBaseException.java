@@ -16,6 +16,13 @@ public class BusinessBaseException extends RuntimeException {
         this.errorCode = errorCode;
     }
 
+    // 예상된 오류(없는 글, 잘못된 입력)용 경량 예외
+    // 스택 트레이스를 채우지 않고 cause/suppressed도 가질 수 없어 변경 불가 : 미리 만든 인스턴스를 공유해도 안전
+    protected BusinessBaseException(String message, ErrorCode errorCode, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+
     public ErrorCode getErrorCode() {
         return errorCode;
     }
@@ -0,0 +1,17 @@
+package me.superoi.springbootdeveloper.config.error.exception;
+
+import me.superoi.springbootdeveloper.config.error.ErrorCode;
+
+// 스택 트레이스 없는 경량 예외 (BusinessBaseException 참고)
+public class InvalidValueException extends BusinessBaseException {
+
+    public static final InvalidValueException INSTANCE = new InvalidValueException();
+
+    public InvalidValueException(String message) {
+        super(message, ErrorCode.INVALID_INPUT_VALUE, false);
+    }
+
+    public InvalidValueException() {
+        this(ErrorCode.INVALID_INPUT_VALUE.getMessage());
+    }
+}
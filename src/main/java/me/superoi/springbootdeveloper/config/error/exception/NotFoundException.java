@@ -2,12 +2,16 @@ package me.superoi.springbootdeveloper.config.error.exception;
 
 import me.superoi.springbootdeveloper.config.error.ErrorCode;
 
+// 스택 트레이스 없는 경량 예외 (BusinessBaseException 참고)
 public class NotFoundException extends BusinessBaseException {
+
+    public static final NotFoundException INSTANCE = new NotFoundException();
+
     public NotFoundException(ErrorCode errorCode) {
-        super(errorCode.getMessage(), errorCode);
+        super(errorCode.getMessage(), errorCode, false);
     }
 
     public NotFoundException() {
-        super(ErrorCode.NOT_FOUND);
+        this(ErrorCode.NOT_FOUND);
     }
 }
@@ -0,0 +1,13 @@
+package me.superoi.springbootdeveloper.config.error.exception;
+
+import me.superoi.springbootdeveloper.config.error.ErrorCode;
+
+// 비밀번호 해싱 대기열이 가득 차 가입 요청을 거절할 때, 스택 트레이스 없는 경량 예외
+public class PasswordHashRejectedException extends BusinessBaseException {
+
+    public static final PasswordHashRejectedException INSTANCE = new PasswordHashRejectedException();
+
+    public PasswordHashRejectedException() {
+        super(ErrorCode.TOO_MANY_REQUESTS.getMessage(), ErrorCode.TOO_MANY_REQUESTS, false);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Setter
 @Getter
 @Component
@@ -13,4 +15,9 @@ public class JwtProperties {
 
     private String issuer;
     private String secretKey;
+    private long verifiedCacheSize = 10_000; // 검증된 토큰 캐시 최대 항목 수
+    private Duration verifiedCacheMaxTtl = Duration.ofMinutes(10); // exp가 더 길어도 이 시간 후 재검증
+    private long refreshTokenCacheSize = 10_000; // 리프레시 토큰 앞단 캐시 최대 항목 수
+    private Duration refreshTokenCacheTtl = Duration.ofMinutes(30);
+    private Duration refreshTokenPurgeInterval = Duration.ofHours(1); // 만료 토큰 삭제 주기
 }
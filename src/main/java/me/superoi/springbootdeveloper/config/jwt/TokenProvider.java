@@ -2,6 +2,7 @@ package me.superoi.springbootdeveloper.config.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
@@ -14,12 +15,16 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
 public class TokenProvider {
 
+    private static final Set<SimpleGrantedAuthority> AUTHORITIES =
+            Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final JwtProperties jwtProperties;
 
     public String generateToken(User user, Duration expiredAt) {
@@ -43,37 +48,45 @@ public class TokenProvider {
                 .compact();
     }
 
-    public boolean validToken(String token) {
+    // 서명 검증과 클레임 파싱을 한 번에 수행, 유효하지 않은 토큰이면 empty
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
         try {
-            Jwts.parser()
-                .setSigningKey(jwtProperties.getSecretKey()) // 비밀값으로 복호화
-                .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) { // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
-            return false;
+            Claims claims = Jwts.parser()
+                    .setSigningKey(jwtProperties.getSecretKey()) // 비밀값으로 복호화
+                    .parseClaimsJws(token)
+                    .getBody();
+            return Optional.of(VerifiedToken.of(token, claims));
+        } catch (JwtException | IllegalArgumentException e) { // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
+            return Optional.empty();
         }
     }
 
-    // 토큰 기반으로 인증 정보를 가져오는 메서드
-    public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+    public boolean validToken(String token) {
+        return verify(token).isPresent();
+    }
 
+    // 검증된 토큰으로 인증 정보를 만드는 메서드 (다시 파싱하지 않음)
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
         return new UsernamePasswordAuthenticationToken(
-                new org.springframework.security.core.userdetails.User(claims.getSubject(), "", authorities),
-                token, authorities);
+                new org.springframework.security.core.userdetails.User(verifiedToken.getSubject(), "", AUTHORITIES),
+                verifiedToken.getToken(), AUTHORITIES);
+    }
+
+    // 토큰 기반으로 인증 정보를 가져오는 메서드
+    public Authentication getAuthentication(String token) {
+        return getAuthentication(verifyOrThrow(token));
     }
 
     // 토큰 기반으로 유저 id를 가져오는 메서드
     public Long getUserId(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("id", Long.class);
+        return verifyOrThrow(token).getUserId();
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser() // 클레임 조회
-                .setSigningKey(jwtProperties.getSecretKey())
-                .parseClaimsJws(token)
-                .getBody();
+    private VerifiedToken verifyOrThrow(String token) {
+        return verify(token).orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
     }
 }
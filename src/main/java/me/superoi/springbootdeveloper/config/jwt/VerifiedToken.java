@@ -0,0 +1,27 @@
+package me.superoi.springbootdeveloper.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+// 서명 검증을 마친 토큰의 클레임 (불변), 한 번 파싱한 결과를 필터와 서비스에서 재사용
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VerifiedToken {
+
+    private final String token;
+    private final String subject; // 유저 이메일
+    private final Long userId; // 클레임 id, 없으면 null
+    private final Instant expiresAt;
+
+    static VerifiedToken of(String token, Claims claims) {
+        return new VerifiedToken(
+                token,
+                claims.getSubject(),
+                claims.get("id", Long.class),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant());
+    }
+}
@@ -0,0 +1,153 @@
+package me.superoi.springbootdeveloper.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.superoi.springbootdeveloper.util.DigestUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+// 이미 서명 검증을 마친 토큰 캐시
+// 같은 토큰으로 반복 요청하면 HMAC 검증 대신 SHA-256 다이제스트 조회만 수행
+// 항목은 토큰의 exp 시점(최대 maxTtl)에 만료되고, 크기를 넘으면 Caffeine이 정리
+// 폐기 목록은 크기 제한 없이 exp 까지 보관 (인스턴스 로컬 : 여러 대로 띄우면 폐기 요청을 받은 인스턴스에만 적용)
+@Component
+public class VerifiedTokenCache {
+
+    private static final Duration NO_MAX_TTL = Duration.ofNanos(Long.MAX_VALUE); // exp 가 없으면 만료되지 않음
+
+    private final TokenProvider tokenProvider;
+    private final Clock clock; // exp 와 비교할 현재 시각
+    private final Cache<String, VerifiedToken> verified;
+    private final Cache<String, VerifiedToken> revoked; // 폐기된 토큰 (exp 까지 보관, 크기 제한 없음)
+    private final MeterRegistry meterRegistry;
+    // blog.jwt.verify{result} : cached(캐시 적중), verified(서명 검증 통과), rejected(검증 실패), revoked(폐기됨)
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+    private final Timer revokedTimer;
+
+    @Autowired
+    public VerifiedTokenCache(TokenProvider tokenProvider, JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this(tokenProvider, jwtProperties, meterRegistry, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    // 테스트에서 시각을 직접 움직일 수 있도록 시계와 Caffeine 티커를 주입
+    VerifiedTokenCache(TokenProvider tokenProvider, JwtProperties jwtProperties, MeterRegistry meterRegistry,
+                       Clock clock, Ticker ticker) {
+        this.tokenProvider = tokenProvider;
+        this.clock = clock;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(new UntilTokenExpiry(jwtProperties.getVerifiedCacheMaxTtl()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        // 크기 제한을 두면 넘칠 때 폐기한 토큰이 다시 검증을 통과하므로 exp 로만 정리
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new UntilTokenExpiry(NO_MAX_TTL))
+                .ticker(ticker)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "verifiedTokens");
+        this.meterRegistry = meterRegistry;
+        this.cachedTimer = verifyTimer("cached");
+        this.verifiedTimer = verifyTimer("verified");
+        this.rejectedTimer = verifyTimer("rejected");
+        this.revokedTimer = verifyTimer("revoked");
+    }
+
+    // 캐시에 있으면 그대로, 없으면 TokenProvider로 검증 후 캐싱
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String digest = DigestUtil.sha256(token);
+        if (revoked.getIfPresent(digest) != null) {
+            sample.stop(revokedTimer);
+            return Optional.empty();
+        }
+
+        VerifiedToken cached = verified.getIfPresent(digest);
+        if (cached != null) {
+            sample.stop(cachedTimer);
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verifiedToken = tokenProvider.verify(token);
+        verifiedToken.ifPresent(value -> verified.put(digest, value));
+        sample.stop(verifiedToken.isPresent() ? verifiedTimer : rejectedTimer);
+        return verifiedToken;
+    }
+
+    private Timer verifyTimer(String result) {
+        return Timer.builder("blog.jwt.verify")
+                .description("access token verification time")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // 토큰 폐기 : 캐시에서 지우고 만료 시점까지 검증을 거부
+    public void revoke(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+
+        String digest = DigestUtil.sha256(token);
+        verified.invalidate(digest);
+        tokenProvider.verify(token).ifPresent(value -> revoked.put(digest, value));
+    }
+
+    // 서명 키 교체 등으로 기존 검증 결과를 모두 버려야 할 때
+    public void invalidateAll() {
+        verified.invalidateAll();
+    }
+
+    // 밀린 만료/크기 정리를 호출한 스레드에서 바로 수행
+    void cleanUp() {
+        verified.cleanUp();
+        revoked.cleanUp();
+    }
+
+    private class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final Duration maxTtl;
+
+        UntilTokenExpiry(Duration maxTtl) {
+            this.maxTtl = maxTtl;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration ttl = maxTtl;
+            if (value.getExpiresAt() != null) {
+                Duration untilExpiry = Duration.between(clock.instant(), value.getExpiresAt());
+                ttl = untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+            }
+            return Math.max(ttl.toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package me.superoi.springbootdeveloper.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 핫패스 계측 : @Timed 컨트롤러 타이머, 요청당 SQL 수(N+1 감지)
+// 리포지토리 메서드(spring.data.repository.invocations), Hikari 대기(hikaricp.connections.acquire),
+// Hibernate 통계(hibernate.*)는 부트 자동 설정 + application.yml 의 분포 설정으로 노출
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryMetricsProperties queryMetricsProperties;
+
+    // @Timed 가 붙은 빈의 메서드 실행 시간 기록
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryCountInterceptor(meterRegistry, queryMetricsProperties))
+                .addPathPatterns("/api/**", "/articles/**", "/articles", "/new-article", "/my-articles");
+    }
+}
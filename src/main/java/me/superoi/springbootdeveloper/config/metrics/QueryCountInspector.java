@@ -0,0 +1,24 @@
+package me.superoi.springbootdeveloper.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 실행하는 SQL 수를 현재 스레드 기준으로 셈 (SQL은 바꾸지 않음)
+// QueryCountInterceptor가 요청 시작 시 초기화하고 끝날 때 읽음
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    static int get() {
+        return COUNT.get()[0];
+    }
+}
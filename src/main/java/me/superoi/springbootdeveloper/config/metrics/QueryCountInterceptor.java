@@ -0,0 +1,69 @@
+package me.superoi.springbootdeveloper.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 요청(핸들러)마다 실행된 SQL 수 기록 : blog.db.queries.per.request{uri}
+// 기준을 넘으면 blog.db.n_plus_one.suspected{uri} 증가 + 경고 로그
+// 비동기 요청(StreamingResponseBody, CompletableFuture 등)은 SQL이 다른 스레드에서 실행되어 셀 수 없으므로 기록하지 않음
+@Slf4j
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ASYNC_ATTRIBUTE = QueryCountInterceptor.class.getName() + ".ASYNC";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryMetricsProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountInspector.reset();
+        return true;
+    }
+
+    // 비동기 처리가 시작되면 afterCompletion 대신 호출됨 : 요청 스레드를 풀에 돌려주기 전에 카운트 정리
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(ASYNC_ATTRIBUTE, Boolean.TRUE);
+        QueryCountInspector.reset();
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex
+    ) {
+        // 비동기 재디스패치의 완료 시점 : 이 스레드의 카운트는 요청 전체의 SQL 수가 아님
+        if (request.getAttribute(ASYNC_ATTRIBUTE) != null) {
+            QueryCountInspector.reset();
+            return;
+        }
+
+        int queries = QueryCountInspector.get();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("blog.db.queries.per.request")
+                .description("SQL statements executed by Hibernate per request")
+                .tag("uri", uri)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(meterRegistry)
+                .record(queries);
+
+        if (queries > properties.getWarnThreshold()) {
+            Counter.builder("blog.db.n_plus_one.suspected")
+                    .description("requests over the per-request SQL statement threshold")
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executed {} SQL statements (threshold {}), possible N+1",
+                    request.getMethod(), uri, queries, properties.getWarnThreshold());
+        }
+    }
+}
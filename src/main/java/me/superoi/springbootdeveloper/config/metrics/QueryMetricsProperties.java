@@ -0,0 +1,15 @@
+package me.superoi.springbootdeveloper.config.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.metrics.queries")
+public class QueryMetricsProperties {
+
+    private int warnThreshold = 10; // 요청 하나에서 실행한 SQL이 이 수를 넘으면 N+1 의심으로 기록/경고
+}
@@ -3,17 +3,21 @@ package me.superoi.springbootdeveloper.config.oauth;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import me.superoi.springbootdeveloper.util.CookieUtil;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.web.util.WebUtils;
 
+@RequiredArgsConstructor
 public class OAuth2AuthorizationRequestBasedOnCookieRepository
         implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
 
     public final static String OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME = "oauth2_auth_request";
     private final static int COOKIE_EXPIRE_SECONDS = 18000;
 
+    private final OAuth2AuthorizationRequestCodec codec;
+
     @Override
     public OAuth2AuthorizationRequest removeAuthorizationRequest(
             HttpServletRequest request,
@@ -25,7 +29,8 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
         Cookie cookie = WebUtils.getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
-        return CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class);
+        // 서명이 맞지 않거나 만료된 값은 null
+        return cookie == null ? null : codec.decode(cookie.getValue());
     }
 
     @Override
@@ -42,7 +47,7 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository
         CookieUtil.addCookie(
                 response,
                 OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
-                CookieUtil.serialize(authorizationRequest),
+                codec.encode(authorizationRequest),
                 COOKIE_EXPIRE_SECONDS
         );
     }
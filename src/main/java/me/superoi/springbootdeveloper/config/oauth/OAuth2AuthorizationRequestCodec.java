@@ -0,0 +1,197 @@
+package me.superoi.springbootdeveloper.config.oauth;
+
+import me.superoi.springbootdeveloper.config.jwt.JwtProperties;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// OAuth2 인가 요청 쿠키 값 인코딩 (자바 직렬화 대신 필드 단위 바이너리 + HMAC 서명)
+// 형식 : base64url( 버전(1) | 발급 시각(초, 8) | 필드들 | HMAC-SHA256(32) )
+// 필드 : authorizationUri, clientId, redirectUri?, scopes, state?, additionalParameters, attributes,
+//        authorizationRequestUri (문자열은 writeUTF, 맵 값은 문자열만 허용)
+// 서명이 맞지 않거나, 버전이 다르거나, maxAge 보다 오래된 값은 null (쿠키가 없는 것과 같게 취급)
+@Component
+public class OAuth2AuthorizationRequestCodec {
+
+    private static final byte VERSION = 1;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final Duration MAX_AGE = Duration.ofSeconds(18000); // 쿠키 만료 시간과 같게
+
+    private final Supplier<byte[]> secret;
+    private final Clock clock;
+    private volatile SecretKeySpec key;
+
+    // 키는 처음 쓸 때 파생 : OAuth2 로그인을 쓰지 않아 jwt.secret-key 가 없는 환경에서도 빈은 만들어지도록
+    public OAuth2AuthorizationRequestCodec(JwtProperties jwtProperties) {
+        this(() -> {
+            String secretKey = jwtProperties.getSecretKey();
+            if (secretKey == null || secretKey.isBlank()) {
+                throw new IllegalStateException("jwt.secret-key is required to sign OAuth2 authorization requests");
+            }
+            return secretKey.getBytes(StandardCharsets.UTF_8);
+        }, Clock.systemUTC());
+    }
+
+    OAuth2AuthorizationRequestCodec(byte[] secret, Clock clock) {
+        this(() -> secret, clock);
+    }
+
+    private OAuth2AuthorizationRequestCodec(Supplier<byte[]> secret, Clock clock) {
+        this.secret = secret;
+        this.clock = clock;
+    }
+
+    public String encode(OAuth2AuthorizationRequest request) {
+        if (!AuthorizationGrantType.AUTHORIZATION_CODE.equals(request.getGrantType())) {
+            throw new IllegalArgumentException("Unsupported grant type: " + request.getGrantType().getValue());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(clock.instant().getEpochSecond());
+            out.writeUTF(request.getAuthorizationUri());
+            out.writeUTF(request.getClientId());
+            writeNullable(out, request.getRedirectUri());
+            out.writeShort(request.getScopes().size());
+            for (String scope : request.getScopes()) {
+                out.writeUTF(scope);
+            }
+            writeNullable(out, request.getState());
+            writeMap(out, request.getAdditionalParameters());
+            writeMap(out, request.getAttributes());
+            out.writeUTF(request.getAuthorizationRequestUri());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] payload = bytes.toByteArray();
+        byte[] signed = Arrays.copyOf(payload, payload.length + SIGNATURE_LENGTH);
+        System.arraycopy(hmac(key(), payload), 0, signed, payload.length, SIGNATURE_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signed);
+    }
+
+    public OAuth2AuthorizationRequest decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        byte[] signed;
+        try {
+            signed = Base64.getUrlDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (signed.length <= SIGNATURE_LENGTH + 1 || signed[0] != VERSION) {
+            return null;
+        }
+        byte[] payload = Arrays.copyOf(signed, signed.length - SIGNATURE_LENGTH);
+        byte[] signature = Arrays.copyOfRange(signed, payload.length, signed.length);
+        if (!MessageDigest.isEqual(hmac(key(), payload), signature)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1))) {
+            long issuedAt = in.readLong();
+            if (clock.instant().getEpochSecond() - issuedAt > MAX_AGE.toSeconds()) {
+                return null;
+            }
+
+            OAuth2AuthorizationRequest.Builder builder = OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri(in.readUTF())
+                    .clientId(in.readUTF())
+                    .redirectUri(readNullable(in));
+            int scopeCount = in.readUnsignedShort();
+            Set<String> scopes = new LinkedHashSet<>(scopeCount);
+            for (int i = 0; i < scopeCount; i++) {
+                scopes.add(in.readUTF());
+            }
+            Map<String, Object> additionalParameters = new LinkedHashMap<>();
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            builder.scopes(scopes)
+                    .state(readNullable(in));
+            readMap(in, additionalParameters);
+            readMap(in, attributes);
+            return builder
+                    .additionalParameters(additionalParameters)
+                    .attributes(attributes)
+                    .authorizationRequestUri(in.readUTF())
+                    .build();
+        } catch (IOException | IllegalArgumentException e) {
+            // 서명은 맞지만 형식이 다른 경우 (이전 배포의 값 등)
+            return null;
+        }
+    }
+
+    // JWT 서명 키를 그대로 쓰지 않고 용도별 키를 파생 (여러 스레드가 동시에 파생해도 결과가 같으므로 잠그지 않음)
+    private SecretKeySpec key() {
+        SecretKeySpec derived = key;
+        if (derived == null) {
+            derived = new SecretKeySpec(hmac(new SecretKeySpec(secret.get(), ALGORITHM),
+                    "oauth2-authorization-request".getBytes(StandardCharsets.UTF_8)), ALGORITHM);
+            key = derived;
+        }
+        return derived;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeShort(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (!(entry.getValue() instanceof String value)) {
+                throw new IllegalArgumentException("Only string values are supported: " + entry.getKey());
+            }
+            out.writeUTF(entry.getKey());
+            out.writeUTF(value);
+        }
+    }
+
+    private static void readMap(DataInputStream in, Map<String, Object> map) throws IOException {
+        int size = in.readUnsignedShort();
+        for (int i = 0; i < size; i++) {
+            map.put(in.readUTF(), in.readUTF());
+        }
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
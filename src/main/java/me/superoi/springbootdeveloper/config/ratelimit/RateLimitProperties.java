@@ -0,0 +1,32 @@
+package me.superoi.springbootdeveloper.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("blog.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true; // false : 필터는 등록되지만 모든 요청 통과
+    private long maximumClients = 100_000; // 보관할 (규칙, 클라이언트) 버킷 수 상한
+    private Duration idleTimeout = Duration.ofMinutes(10); // 이 시간 동안 요청이 없던 버킷은 제거 (버킷이 다 차는 시간보다 길게)
+    private List<Rule> rules = new ArrayList<>(); // 위에서부터 처음 맞는 규칙 하나만 적용, 맞는 규칙이 없으면 제한 없음
+
+    @Setter
+    @Getter
+    public static class Rule {
+        private String name; // 메트릭 태그, 버킷 키에 사용
+        private List<String> paths = new ArrayList<>(); // ant 패턴
+        private List<String> methods = new ArrayList<>(); // 비어 있으면 모든 메서드
+        private long capacity = 60; // 한 번에 허용하는 최대 요청 수 (버킷 크기)
+        private double refillPerSecond = 10; // 초당 채워지는 요청 수 (평균 허용량)
+    }
+}
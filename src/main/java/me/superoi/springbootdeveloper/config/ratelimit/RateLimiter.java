@@ -0,0 +1,104 @@
+package me.superoi.springbootdeveloper.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
+// 경로 규칙별, 클라이언트(로그인 사용자 또는 IP)별 토큰 버킷
+// 버킷은 크기 제한 + 유휴 만료 Caffeine 캐시에 보관하므로 IP 가 많아져도 메모리가 일정
+// (만료된 버킷은 다 찬 버킷과 같으므로 유휴 시간이 충전 시간보다 길면 제한이 느슨해지지 않음)
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final List<Rule> rules;
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier nanoTime;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoTime = nanoTime;
+        this.rules = properties.getRules().stream().map(Rule::of).toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets");
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && !rules.isEmpty();
+    }
+
+    public Optional<Rule> match(HttpServletRequest request) {
+        for (Rule rule : rules) {
+            if (rule.matcher().matches(request)) {
+                return Optional.of(rule);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간(ns)
+    public long tryAcquire(Rule rule, String clientKey) {
+        TokenBucket bucket = buckets.get(rule.name() + ":" + clientKey,
+                key -> new TokenBucket(rule.intervalNanos(), rule.burstNanos()));
+        return bucket.tryAcquire(nanoTime.getAsLong());
+    }
+
+    // blog.ratelimit.rejected{rule, client=user|anonymous}
+    public void recordRejection(Rule rule, boolean authenticated) {
+        String client = authenticated ? "user" : "anonymous";
+        rejections.computeIfAbsent(rule.name() + ":" + client, key -> Counter.builder("blog.ratelimit.rejected")
+                .tag("rule", rule.name())
+                .tag("client", client)
+                .register(meterRegistry)).increment();
+    }
+
+    public record Rule(String name, RequestMatcher matcher, long intervalNanos, long burstNanos) {
+
+        static Rule of(RateLimitProperties.Rule rule) {
+            if (rule.getCapacity() < 1 || rule.getRefillPerSecond() <= 0) {
+                throw new IllegalArgumentException("Invalid rate limit rule: " + rule.getName());
+            }
+            List<RequestMatcher> matchers = new ArrayList<>();
+            for (String path : rule.getPaths()) {
+                if (rule.getMethods().isEmpty()) {
+                    matchers.add(antMatcher(path));
+                }
+                for (String method : rule.getMethods()) {
+                    matchers.add(antMatcher(HttpMethod.valueOf(method.toUpperCase(Locale.ROOT)), path));
+                }
+            }
+            long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rule.getRefillPerSecond()));
+            return new Rule(rule.getName(), new OrRequestMatcher(matchers), intervalNanos,
+                    intervalNanos * rule.getCapacity());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package me.superoi.springbootdeveloper.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 토큰 버킷 (GCRA 방식) : 남은 토큰 수와 마지막 충전 시각 대신 "다음 요청이 이론상 도착할 시각(tat)" 하나만 보관
+// 요청마다 tat 를 한 칸(interval) 미루고, 미룬 tat 가 지금보다 버킷 크기(burst) 이상 앞서면 거절
+// 상태가 long 하나라서 락 없이 CAS 로 갱신
+class TokenBucket {
+
+    private final long intervalNanos; // 토큰 하나가 채워지는 시간
+    private final long burstNanos; // intervalNanos * capacity
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(long intervalNanos, long burstNanos) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = burstNanos;
+    }
+
+    // 허용하면 0, 거절하면 토큰 하나가 생길 때까지 남은 시간(ns)
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - burstNanos - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -1,24 +1,53 @@
 package me.superoi.springbootdeveloper.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import me.superoi.springbootdeveloper.config.error.exception.InvalidValueException;
 import me.superoi.springbootdeveloper.domain.Article;
 import me.superoi.springbootdeveloper.dto.AddArticleRequest;
+import me.superoi.springbootdeveloper.dto.ArticleImportResponse;
+import me.superoi.springbootdeveloper.dto.ArticlePageResponse;
 import me.superoi.springbootdeveloper.dto.ArticleResponse;
+import me.superoi.springbootdeveloper.dto.ArticleSearchResponse;
+import me.superoi.springbootdeveloper.dto.ArticleSummary;
+import me.superoi.springbootdeveloper.dto.ArticleVersion;
+import me.superoi.springbootdeveloper.dto.AuthorArticlesResponse;
+import me.superoi.springbootdeveloper.dto.MostViewedArticle;
 import me.superoi.springbootdeveloper.dto.UpdateArticleRequest;
+import me.superoi.springbootdeveloper.service.ArticleImportService;
+import me.superoi.springbootdeveloper.service.ArticleViewCounter;
 import me.superoi.springbootdeveloper.service.BlogService;
+import me.superoi.springbootdeveloper.service.search.ArticleSearchIndex;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.security.Principal;
 import java.util.List;
 
+@Timed(value = "blog.api", percentiles = {0.5, 0.95, 0.99}, histogram = true) // 엔드포인트(메서드)별 실행 시간
 @RequiredArgsConstructor
 @RestController // HTTP Response Body에 객체 데이터를 JSON 형식으로 반환하는 컨트롤러
 public class BlogApiController {
 
     private final BlogService blogService;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleImportService articleImportService;
+    private final ArticleViewCounter articleViewCounter;
+    private final ObjectMapper objectMapper;
+
+    // 내보내기 중 이 건수마다 flush 해서 클라이언트가 바로 받아가도록 함
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
 
     // HTTP 메서드가 POST일 때, 전달받은 URL과 동일하면 메서드로 매핑
     @PostMapping("/api/articles")
@@ -32,30 +61,132 @@ public class BlogApiController {
     }
 
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()
-                .map(ArticleResponse::new)
-                .toList();
-        return ResponseEntity.ok().body(articles);
+    // cursor : 이전 응답의 next 값, size : 페이지 크기(최대 100)
+    public ResponseEntity<ArticlePageResponse<ArticleSummary>> findAllArticles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
+        // 목록 내용이 같으면 본문 없이 304 (헤더는 checkNotModified가 작성)
+        // 첫 페이지는 캐시에서 오므로 대부분 DB 조회 없이 비교
+        ArticlePageResponse<ArticleSummary> page = blogService.findPage(cursor, size);
+        if (webRequest.checkNotModified(BlogService.listETag(page))) {
+            return null;
+        }
+        return ResponseEntity.ok().body(page);
+    }
+
+    // 작성자별 글 목록 : author 는 작성자 이메일, cursor/size 는 /api/articles 와 같음
+    @GetMapping("/api/users/{author}/articles")
+    public ResponseEntity<AuthorArticlesResponse> findArticlesByAuthor(
+            @PathVariable String author,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok().body(blogService.findPageByAuthor(author, cursor, size));
+    }
+
+    // 글 일괄 가져오기 : 본문은 JSON 배열 또는 NDJSON, 스트림으로 읽어 배치 단위로 저장
+    @PostMapping(value = "/api/articles/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ArticleImportResponse> importArticles(InputStream body, Principal principal)
+            throws IOException {
+        return ResponseEntity.ok().body(articleImportService.importArticles(body, principal.getName()));
+    }
+
+    // 전체 글 내보내기 : 한 줄에 글 하나(NDJSON), DB 커서에서 읽는 대로 바로 응답에 씀
+    @GetMapping(value = "/api/articles/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles() {
+        ObjectWriter writer = objectMapper.writer();
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            try {
+                blogService.exportAll(article -> {
+                    try {
+                        out.write(writer.writeValueAsBytes(article));
+                        out.write('\n');
+                        // 첫 줄은 바로 내보내고 이후엔 일정 건수마다 flush
+                        if (written[0]++ % EXPORT_FLUSH_INTERVAL == 0) {
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 끊김 등 : 원래 IOException 으로 돌려 MVC 비동기 처리에 맡김
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // 조회수 상위 글 : DB를 읽지 않고 메모리의 순위를 반환 (최대 몇 초 지연)
+    @GetMapping("/api/articles/most-viewed")
+    public ResponseEntity<List<MostViewedArticle>> findMostViewedArticles(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok().body(articleViewCounter.getMostViewed(limit));
+    }
+
+    // 제목/본문 검색 : 관련도 순, page는 0부터
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<ArticleSearchResponse> searchArticles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (q.isBlank() || page < 0) {
+            throw InvalidValueException.INSTANCE;
+        }
+        int pageSize = Math.min(Math.max(size, 1), BlogService.MAX_PAGE_SIZE);
+        return ResponseEntity.ok().body(articleSearchIndex.search(q, page, pageSize));
     }
 
     @GetMapping("/api/articles/{id}")
     // URL 경로에서 값 추출
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id) {
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id, WebRequest webRequest) {
+        // If-None-Match / If-Modified-Since 가 현재 버전과 같으면 본문을 읽지 않고 304
+        ArticleVersion version = blogService.findVersion(id);
+        articleViewCounter.increment(id); // 304도 조회로 셈 (없는 글은 위에서 404)
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
         Article article = blogService.findById(id);
         return ResponseEntity.ok().body(new ArticleResponse(article));
     }
 
+    // If-Match 가 있으면 그 버전일 때만 삭제 (다르면 412)
     @DeleteMapping("/api/articles/{id}")
-    public ResponseEntity<Void> deleteArticle(@PathVariable long id) {
-        blogService.delete(id);
+    public ResponseEntity<Void> deleteArticle(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        Long expectedVersion = ifMatch == null ? null : ArticleVersion.parseIfMatch(id, ifMatch);
+        if (expectedVersion == null) {
+            blogService.delete(id);
+        } else {
+            blogService.delete(id, expectedVersion);
+        }
         return ResponseEntity.ok().build();
     }
 
+    // If-Match 가 있으면 그 버전일 때만 수정 (다르면 412), 없으면 동시 수정 충돌 시 409
+    // 응답의 ETag 를 다음 수정의 If-Match 로 사용
     @PutMapping("/api/articles/{id}")
-    public ResponseEntity<Article> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request) {
-        Article updateArticle = blogService.update(id, request);
-        return ResponseEntity.ok().body(updateArticle);
+    public ResponseEntity<Article> updateArticle(
+            @PathVariable long id,
+            @RequestBody UpdateArticleRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        Long expectedVersion = ifMatch == null ? null : ArticleVersion.parseIfMatch(id, ifMatch);
+        Article updateArticle = expectedVersion == null
+                ? blogService.update(id, request)
+                : blogService.update(id, request, expectedVersion);
+        return ResponseEntity.ok()
+                .eTag(ArticleVersion.eTag(updateArticle.getId(), updateArticle.getVersion()))
+                .body(updateArticle);
     }
 }
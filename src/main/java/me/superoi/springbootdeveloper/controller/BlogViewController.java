@@ -2,8 +2,11 @@ package me.superoi.springbootdeveloper.controller;
 
 import lombok.RequiredArgsConstructor;
 import me.superoi.springbootdeveloper.dto.ArticleListViewResponse;
+import me.superoi.springbootdeveloper.dto.ArticlePageResponse;
 import me.superoi.springbootdeveloper.dto.ArticleViewResponse;
+import me.superoi.springbootdeveloper.dto.AuthorArticlesResponse;
 import me.superoi.springbootdeveloper.domain.Article;
+import me.superoi.springbootdeveloper.service.ArticleViewCounter;
 import me.superoi.springbootdeveloper.service.BlogService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -11,26 +14,41 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
+import java.security.Principal;
 
 @RequiredArgsConstructor
 @Controller
 public class BlogViewController {
 
     private final BlogService blogService;
+    private final ArticleViewCounter articleViewCounter;
 
     @GetMapping("/articles")
-    public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles =
-                blogService.findAll().stream().map(ArticleListViewResponse::new).toList();
-        model.addAttribute("articles", articles); // 블로그 글 리스트 저장
+    public String getArticles(@RequestParam(required = false) String cursor, Model model) {
+        ArticlePageResponse<ArticleListViewResponse> page =
+                blogService.findPage(cursor, BlogService.DEFAULT_PAGE_SIZE).map(ArticleListViewResponse::new);
+        model.addAttribute("articles", page.getArticles()); // 블로그 글 리스트 저장
+        model.addAttribute("next", page.getNext()); // 다음 페이지 커서
 
         return "articleList"; // articlesList.html 뷰 조회
     }
 
+    // 내 글 목록 : 로그인한 사용자의 글만 최신순으로, 전체 글 수와 함께
+    @GetMapping("/my-articles")
+    public String getMyArticles(@RequestParam(required = false) String cursor, Principal principal, Model model) {
+        AuthorArticlesResponse page =
+                blogService.findPageByAuthor(principal.getName(), cursor, BlogService.DEFAULT_PAGE_SIZE);
+        model.addAttribute("articles", page.getArticles().stream().map(ArticleListViewResponse::new).toList());
+        model.addAttribute("total", page.getTotal());
+        model.addAttribute("next", page.getNext());
+
+        return "myArticles";
+    }
+
     @GetMapping("/articles/{id}")
     public String getArticle(@PathVariable Long id, Model model) {
         Article article = blogService.findById(id);
+        articleViewCounter.increment(id);
         model.addAttribute("article", new ArticleViewResponse(article));
 
         return "article";
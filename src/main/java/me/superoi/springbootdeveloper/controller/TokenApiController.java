@@ -1,6 +1,9 @@
 package me.superoi.springbootdeveloper.controller;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import me.superoi.springbootdeveloper.config.TokenAuthenticationFilter;
 import me.superoi.springbootdeveloper.dto.CreateAccessTokenRequest;
 import me.superoi.springbootdeveloper.dto.CreateAccessTokenResponse;
 import me.superoi.springbootdeveloper.service.TokenService;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+@Timed(value = "blog.api", percentiles = {0.5, 0.95, 0.99}, histogram = true) // 엔드포인트(메서드)별 실행 시간
 @RequiredArgsConstructor
 @RestController
 public class TokenApiController {
@@ -17,8 +21,13 @@ public class TokenApiController {
     private final TokenService tokenService;
 
     @PostMapping("/api/token")
-    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(@RequestBody CreateAccessTokenRequest request) {
-        String newAccessToken = tokenService.createNewAccessToken(request.getRefreshToken());
+    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(
+            @RequestBody CreateAccessTokenRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        // 요청에 이전 액세스 토큰이 실려 있으면 새 토큰 발급과 함께 폐기
+        String newAccessToken = tokenService.createNewAccessToken(
+                request.getRefreshToken(), TokenAuthenticationFilter.getAccessToken(httpRequest));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(new CreateAccessTokenResponse(newAccessToken));
     }
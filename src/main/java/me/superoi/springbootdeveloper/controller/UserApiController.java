@@ -1,26 +1,35 @@
 package me.superoi.springbootdeveloper.controller;
 
 import lombok.RequiredArgsConstructor;
+import me.superoi.springbootdeveloper.config.error.exception.PasswordHashRejectedException;
 import me.superoi.springbootdeveloper.dto.AddUserRequest;
 import me.superoi.springbootdeveloper.service.UserService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @RequiredArgsConstructor
 @Controller
 public class UserApiController {
 
     private final UserService userService;
 
+    // 해싱이 끝날 때까지 요청 스레드를 반납하는 비동기 처리
     @PostMapping("/user")
-    public String signup(AddUserRequest request, Model model) {
-        try {
-            userService.save(request);
-            return "redirect:/";
-        } catch (IllegalArgumentException e) {
-            model.addAttribute("emailError", e.getMessage());
-            return "signup";
-        }
+    public CompletableFuture<String> signup(AddUserRequest request, Model model) {
+        return userService.save(request)
+                .thenApply(id -> "redirect:/")
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    // 중복 이메일, 해싱 대기열 초과는 가입 화면에 메시지 표시
+                    if (cause instanceof IllegalArgumentException || cause instanceof PasswordHashRejectedException) {
+                        model.addAttribute("emailError", cause.getMessage());
+                        return "signup";
+                    }
+                    throw new CompletionException(cause);
+                });
     }
 }
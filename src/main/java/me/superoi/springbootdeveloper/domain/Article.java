@@ -12,6 +12,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_article_created_at_id", columnList = "created_at, id"), // 목록 키셋 페이지네이션용
+        @Index(name = "idx_article_author_created_at_id", columnList = "author, created_at, id") // 작성자별 목록/글 수
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -31,6 +35,10 @@ public class Article {
     @Column(name = "author", nullable = false)
     private String author;
 
+    // 조회수 : ArticleViewCounter가 모아서 직접 더하므로 엔티티 수정 시에는 덮어쓰지 않음
+    @Column(name = "view_count", updatable = false, columnDefinition = "bigint default 0 not null")
+    private long viewCount;
+
     @CreatedDate // 엔티티가 생성될 때 생성 시간 저장
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -39,6 +47,12 @@ public class Article {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금 : 수정할 때마다 1 증가, 읽은 뒤 다른 요청이 먼저 수정했으면 커밋 시 충돌(409)
+    // ETag("id-version")와 If-Match 조건부 수정/삭제에도 사용
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Builder
     public Article(String author, String title, String content) {
         this.author = author;
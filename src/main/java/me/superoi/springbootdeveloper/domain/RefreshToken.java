@@ -3,10 +3,14 @@ package me.superoi.springbootdeveloper.domain;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import me.superoi.springbootdeveloper.util.DigestUtil;
+
+import java.time.LocalDateTime;
 
 @NoArgsConstructor
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")) // 만료 토큰 일괄 삭제용
 public class RefreshToken {
 
     @Id
@@ -17,16 +21,30 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false, unique = true)
     private Long userId;
 
-    @Column(name = "refresh_token", nullable = false)
-    private String refreshToken;
+    // 토큰 원문 대신 SHA-256 다이제스트(고정 43자)를 저장, 유니크 인덱스로 조회
+    @Column(name = "token_hash", nullable = false, unique = true, length = 43)
+    private String tokenHash;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
 
     public RefreshToken(Long userId, String refreshToken) {
+        this(userId, refreshToken, null);
+    }
+
+    public RefreshToken(Long userId, String refreshToken, LocalDateTime expiresAt) {
         this.userId = userId;
-        this.refreshToken = refreshToken;
+        this.tokenHash = DigestUtil.sha256(refreshToken);
+        this.expiresAt = expiresAt;
     }
 
     public RefreshToken update(String newRefreshToken) {
-        this.refreshToken = newRefreshToken;
+        return update(newRefreshToken, null);
+    }
+
+    public RefreshToken update(String newRefreshToken, LocalDateTime expiresAt) {
+        this.tokenHash = DigestUtil.sha256(newRefreshToken);
+        this.expiresAt = expiresAt;
         return this;
     }
 }
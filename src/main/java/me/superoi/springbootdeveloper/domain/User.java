@@ -84,4 +84,10 @@ public class User implements UserDetails {
         this.nickname = nickname;
         return this;
     }
+
+    // 패스워드 해시 변경 (로그인 시 재해싱)
+    public User updatePassword(String password) {
+        this.password = password;
+        return this;
+    }
 }
@@ -0,0 +1,49 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.superoi.springbootdeveloper.config.error.exception.InvalidValueException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 목록 조회 키셋 페이지네이션 커서 : 마지막으로 내려준 글의 (created_at, id)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArticleCursor {
+
+    private static final String DELIMITER = "|";
+    private static final InvalidValueException INVALID_CURSOR = new InvalidValueException("invalid cursor");
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id);
+    }
+
+    // 클라이언트에 노출할 불투명한 문자열로 인코딩
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 클라이언트가 전달한 커서 문자열 해석, 형식이 잘못되면 400 응답
+    public static ArticleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw INVALID_CURSOR;
+            }
+            return new ArticleCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw INVALID_CURSOR;
+        }
+    }
+}
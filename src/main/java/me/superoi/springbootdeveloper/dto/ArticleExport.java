@@ -0,0 +1,28 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 전체 내보내기(NDJSON) 한 줄에 해당하는 프로젝션
+@Getter
+public class ArticleExport {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ArticleExport(
+            Long id, String title, String content, String author, LocalDateTime createdAt, LocalDateTime updatedAt
+    ) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class ArticleImportResponse {
+
+    private final long imported; // 저장된 행 수
+    private final long skipped; // 검증에 실패해 건너뛴 행 수
+    private final boolean completed; // false면 입력 형식 오류로 중간에 멈춤 (이미 커밋된 배치는 유지)
+    private final List<RowError> errors;
+
+    @AllArgsConstructor
+    @Getter
+    public static class RowError {
+        private final long row; // 0부터 시작하는 입력 순서
+        private final String message;
+    }
+}
@@ -0,0 +1,28 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 재구성용 프로젝션 : 색인 중에 들어온 수정/삭제 이벤트와 비교할 버전 포함
+@Getter
+public class ArticleIndexEntry {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final Long version;
+
+    public ArticleIndexEntry(
+            Long id, String title, String content, String author, LocalDateTime createdAt, Long version
+    ) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.version = version;
+    }
+}
@@ -1,18 +1,17 @@
 package me.superoi.springbootdeveloper.dto;
 
 import lombok.Getter;
-import me.superoi.springbootdeveloper.domain.Article;
 
 @Getter
 public class ArticleListViewResponse {
 
     private final Long id;
     private final String title;
-    private final String content;
+    private final String excerpt;
 
-    public ArticleListViewResponse(Article article) {
+    public ArticleListViewResponse(ArticleSummary article) {
         this.id = article.getId();
         this.title = article.getTitle();
-        this.content = article.getContent();
+        this.excerpt = article.getExcerpt();
     }
 }
@@ -0,0 +1,21 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지 응답 : 글 목록과 다음 페이지 커서(마지막 페이지면 null)
+@AllArgsConstructor
+@Getter
+public class ArticlePageResponse<T> {
+
+    private final List<T> articles;
+    private final String next;
+
+    public <R> ArticlePageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = articles.stream().<R>map(mapper).toList();
+        return new ArticlePageResponse<>(mapped, next);
+    }
+}
@@ -0,0 +1,27 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class ArticleSearchResponse {
+
+    private final int total; // 검색어와 일치하는 전체 글 수
+    private final int page;
+    private final int size;
+    private final List<Hit> articles;
+
+    @AllArgsConstructor
+    @Getter
+    public static class Hit {
+        private final Long id;
+        private final String title;
+        private final String author;
+        private final LocalDateTime createdAt;
+        private final double score;
+    }
+}
@@ -0,0 +1,27 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 조회 전용 프로젝션 : 본문 대신 앞부분 발췌만 DB에서 잘라서 가져옴
+@Getter
+public class ArticleSummary {
+
+    // 목록 발췌 길이 (BlogRepository.SUMMARY_SELECT 의 substring 길이로 사용)
+    public static final int EXCERPT_LENGTH = 100;
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final String excerpt;
+
+    public ArticleSummary(Long id, String title, String author, LocalDateTime createdAt, String excerpt) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.excerpt = excerpt;
+    }
+}
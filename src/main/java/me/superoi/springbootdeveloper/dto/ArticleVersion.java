@@ -0,0 +1,61 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.superoi.springbootdeveloper.config.error.exception.ArticlePreconditionFailedException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 조건부 요청 판단용 글 버전 정보 (본문 없이 id, version, updated_at만 조회)
+@Getter
+public class ArticleVersion {
+
+    private final Long id;
+    private final Long version;
+    private final LocalDateTime updatedAt;
+
+    public ArticleVersion(Long id, Long version, LocalDateTime updatedAt) {
+        this.id = id;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    // 강한 ETag : "id-version"
+    public String getETag() {
+        return eTag(id, version);
+    }
+
+    public static String eTag(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // If-Match 값에서 기대 버전 추출, "*" 이면 null (버전 무관)
+    // 다른 글의 ETag, 형식이 다른 값은 현재 버전과 같을 수 없으므로 412
+    public static Long parseIfMatch(long id, String ifMatch) {
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        // 응답을 gzip 압축하면 Tomcat이 ETag를 약한 ETag(W/)로 바꾸므로 접두사를 떼고 비교
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        String prefix = "\"" + id + "-";
+        if (!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1) {
+            throw ArticlePreconditionFailedException.INSTANCE;
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw ArticlePreconditionFailedException.INSTANCE;
+        }
+    }
+
+    // Last-Modified 헤더 값(ms), 수정 시각이 없으면 -1
+    public long getLastModified() {
+        if (updatedAt == null) {
+            return -1;
+        }
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
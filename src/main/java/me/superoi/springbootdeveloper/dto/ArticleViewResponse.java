@@ -16,6 +16,7 @@ public class ArticleViewResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String author;
+    private Long version; // 수정/삭제 요청의 If-Match 에 사용
 
     public ArticleViewResponse(Article article) {
         this.id = article.getId();
@@ -24,5 +25,6 @@ public class ArticleViewResponse {
         this.createdAt = article.getCreatedAt();
         this.updatedAt = article.getUpdatedAt();
         this.author = article.getAuthor();
+        this.version = article.getVersion();
     }
 }
@@ -0,0 +1,17 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 작성자별 글 목록 : 전체 글 수, 한 페이지 분량, 다음 페이지 커서(마지막 페이지면 null)
+@AllArgsConstructor
+@Getter
+public class AuthorArticlesResponse {
+
+    private final String author;
+    private final long total;
+    private final List<ArticleSummary> articles;
+    private final String next;
+}
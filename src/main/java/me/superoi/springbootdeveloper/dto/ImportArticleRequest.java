@@ -0,0 +1,28 @@
+package me.superoi.springbootdeveloper.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 일괄 가져오기 한 행 : author, createdAt은 선택 (없으면 요청한 사용자, 현재 시각)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ImportArticleRequest {
+
+    @NotNull
+    @Size(min = 1, max = 255)
+    private String title;
+
+    @NotNull
+    private String content;
+
+    @Size(max = 255)
+    private String author;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package me.superoi.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+@Getter
+public class MostViewedArticle {
+
+    private final Long id;
+    private final String title;
+    private final long viewCount;
+
+    public MostViewedArticle(Long id, String title, long viewCount) {
+        this.id = id;
+        this.title = title;
+        this.viewCount = viewCount;
+    }
+
+    public MostViewedArticle withTitle(String title) {
+        return new MostViewedArticle(id, title, viewCount);
+    }
+}
@@ -1,11 +1,116 @@
 package me.superoi.springbootdeveloper.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
 
 import me.superoi.springbootdeveloper.domain.Article;
+import me.superoi.springbootdeveloper.dto.ArticleExport;
+import me.superoi.springbootdeveloper.dto.ArticleIndexEntry;
+import me.superoi.springbootdeveloper.dto.ArticleSummary;
+import me.superoi.springbootdeveloper.dto.ArticleVersion;
+import me.superoi.springbootdeveloper.dto.MostViewedArticle;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.hibernate.jpa.HibernateHints;
 
 public interface BlogRepository extends JpaRepository<Article, Long> {
 
-	List<Article> findAllByOrderByCreatedAtDesc();
+	// 목록 조회는 엔티티 대신 DTO 프로젝션으로 받아 content 컬럼 전체를 읽지 않고 영속성 컨텍스트에도 올리지 않음
+	// 발췌 길이는 ArticleSummary.EXCERPT_LENGTH 한 곳에서 관리 (컴파일 시점 상수라 애너테이션 쿼리에 그대로 사용 가능)
+	String SUMMARY_SELECT = "select new me.superoi.springbootdeveloper.dto.ArticleSummary("
+		+ "a.id, a.title, a.author, a.createdAt, substring(a.content, 1, " + ArticleSummary.EXCERPT_LENGTH + "))"
+		+ " from Article a";
+
+	// 조건부 GET 판단용 : 본문 없이 버전과 수정 시각만 조회
+	@Query("select new me.superoi.springbootdeveloper.dto.ArticleVersion(a.id, a.version, a.updatedAt)"
+		+ " from Article a where a.id = :id")
+	Optional<ArticleVersion> findVersionById(@Param("id") Long id);
+
+	// If-Match 수정 : 작성자와 버전이 맞을 때만 수정 (먼저 SELECT 하지 않음), 수정된 행 수 반환
+	// 벌크 연산은 감사 리스너를 거치지 않으므로 수정 시각을 직접 넘김
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Article a set a.title = :title, a.content = :content, a.updatedAt = :updatedAt,"
+		+ " a.version = a.version + 1"
+		+ " where a.id = :id and a.author = :author and a.version = :version")
+	int updateIfVersionMatches(
+		@Param("id") Long id,
+		@Param("author") String author,
+		@Param("version") Long version,
+		@Param("title") String title,
+		@Param("content") String content,
+		@Param("updatedAt") LocalDateTime updatedAt);
+
+	// 작성자 본인 글만 한 문장으로 삭제, 삭제된 행 수 반환
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from Article a where a.id = :id and a.author = :author")
+	int deleteByIdAndAuthor(@Param("id") Long id, @Param("author") String author);
+
+	// If-Match 삭제 : 버전까지 맞을 때만 삭제
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from Article a where a.id = :id and a.author = :author and a.version = :version")
+	int deleteIfVersionMatches(@Param("id") Long id, @Param("author") String author, @Param("version") Long version);
+
+	// id 순서로 나눠 읽기 (검색 색인 재구성) : DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않음
+	// version 은 재구성 중에 들어온 수정 이벤트와 어느 쪽이 최신인지 비교할 때 사용
+	@Query("select new me.superoi.springbootdeveloper.dto.ArticleIndexEntry("
+		+ "a.id, a.title, a.content, a.author, a.createdAt, a.version) from Article a where a.id > :id order by a.id")
+	List<ArticleIndexEntry> findIndexEntriesAfter(@Param("id") Long id, Pageable pageable);
+
+	// 조회수 순위 초기값 (시작 시 한 번)
+	@Query("select new me.superoi.springbootdeveloper.dto.MostViewedArticle(a.id, a.title, a.viewCount) "
+		+ "from Article a where a.viewCount > 0 order by a.viewCount desc, a.id desc")
+	List<MostViewedArticle> findMostViewed(Pageable pageable);
+
+	// 방금 조회수를 반영한 글들의 현재 누적값
+	@Query("select new me.superoi.springbootdeveloper.dto.MostViewedArticle(a.id, a.title, a.viewCount) "
+		+ "from Article a where a.id in :ids")
+	List<MostViewedArticle> findViewCounts(@Param("ids") Collection<Long> ids);
+
+	// 일괄 가져오기 전 기준점 (이후 들어온 글만 추가 색인)
+	@Query("select coalesce(max(a.id), 0L) from Article a")
+	long findMaxId();
+
+	// 전체 내보내기 : 결과를 한 번에 올리지 않고 fetch size 단위로 커서에서 읽음 (트랜잭션 안에서 사용 후 close)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("select new me.superoi.springbootdeveloper.dto.ArticleExport("
+		+ "a.id, a.title, a.content, a.author, a.createdAt, a.updatedAt) from Article a order by a.id")
+	Stream<ArticleExport> streamAllForExport();
+
+	// 첫 페이지 : (created_at, id) 인덱스를 역순으로 읽음
+	@Query(SUMMARY_SELECT + " order by a.createdAt desc, a.id desc")
+	List<ArticleSummary> findSummaries(Pageable pageable);
+
+	// 다음 페이지 : 커서 이후의 글만 조회하므로 OFFSET 없이 페이지 깊이와 무관하게 일정한 비용
+	@Query(SUMMARY_SELECT
+		+ " where a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)"
+		+ " order by a.createdAt desc, a.id desc")
+	List<ArticleSummary> findSummariesAfter(
+		@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+	// 작성자별 첫 페이지 : (author, created_at, id) 인덱스에서 작성자 범위만 역순으로 읽음
+	@Query(SUMMARY_SELECT + " where a.author = :author order by a.createdAt desc, a.id desc")
+	List<ArticleSummary> findSummariesByAuthor(@Param("author") String author, Pageable pageable);
+
+	// 작성자별 다음 페이지 : 같은 인덱스에서 커서 이후만 조회
+	@Query(SUMMARY_SELECT
+		+ " where a.author = :author"
+		+ " and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id))"
+		+ " order by a.createdAt desc, a.id desc")
+	List<ArticleSummary> findSummariesByAuthorAfter(
+		@Param("author") String author,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id,
+		Pageable pageable);
+
+	// 작성자의 글 수 : 인덱스만 읽음 (ArticleCache 에 캐싱)
+	long countByAuthor(String author);
 }
@@ -0,0 +1,157 @@
+package me.superoi.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import me.superoi.springbootdeveloper.config.ImportProperties;
+import me.superoi.springbootdeveloper.config.cache.ArticleCache;
+import me.superoi.springbootdeveloper.dto.ArticleImportResponse;
+import me.superoi.springbootdeveloper.dto.ImportArticleRequest;
+import me.superoi.springbootdeveloper.repository.BlogRepository;
+import me.superoi.springbootdeveloper.service.search.ArticlesImportedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 글 일괄 가져오기
+// Article은 IDENTITY 전략이라 Hibernate 배치 insert가 꺼지므로 JDBC 배치로 직접 넣음
+// 입력은 JSON 배열 또는 NDJSON, 한 행씩 읽어 검증하고 batchSize 단위로 트랜잭션을 나눠 커밋
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    private static final String INSERT_SQL =
+            "insert into article (title, content, author, created_at, updated_at, version) values (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final BlogRepository blogRepository;
+    private final ArticleCache articleCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImportProperties importProperties;
+    private final Counter importedCounter;
+
+    public ArticleImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper, Validator validator, BlogRepository blogRepository,
+                                ArticleCache articleCache, ApplicationEventPublisher eventPublisher,
+                                ImportProperties importProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reader = objectMapper.readerFor(ImportArticleRequest.class);
+        this.validator = validator;
+        this.blogRepository = blogRepository;
+        this.articleCache = articleCache;
+        this.eventPublisher = eventPublisher;
+        this.importProperties = importProperties;
+        this.importedCounter = Counter.builder("blog.import.rows")
+                .description("articles inserted by bulk import")
+                .register(meterRegistry);
+    }
+
+    public ArticleImportResponse importArticles(InputStream body, String userName) throws IOException {
+        long afterId = blogRepository.findMaxId();
+        int batchSize = Math.max(importProperties.getBatchSize(), 1);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        List<ArticleImportResponse.RowError> errors = new ArrayList<>();
+        long row = 0;
+        long imported = 0;
+        long skipped = 0;
+        boolean completed = true;
+
+        // 최상위가 배열이면 원소를, 아니면 공백/줄바꿈으로 구분된 객체를 차례로 읽음
+        try (MappingIterator<ImportArticleRequest> rows = reader.readValues(body)) {
+            while (rows.hasNextValue()) {
+                ImportArticleRequest request;
+                try {
+                    request = rows.nextValue();
+                } catch (MismatchedInputException e) {
+                    // 값의 타입이 맞지 않는 행(문자열 자리에 객체, 잘못된 날짜 등)만 건너뛰고 다음 행부터 이어서 읽음
+                    skipped++;
+                    addError(errors, row++, "invalid value: " + e.getOriginalMessage());
+                    continue;
+                }
+                String error = validate(request);
+                if (error != null) {
+                    skipped++;
+                    addError(errors, row, error);
+                } else {
+                    batch.add(toParameters(request, userName));
+                    if (batch.size() == batchSize) {
+                        imported += flush(batch);
+                        log.info("Article import progress : {} imported, {} skipped", imported, skipped);
+                    }
+                }
+                row++;
+            }
+        } catch (JsonProcessingException e) {
+            // 형식이 깨진 곳에서 중단 : 그 전에 읽은 행은 저장하고 결과로 알려줌
+            completed = false;
+            addError(errors, row, "malformed JSON: " + e.getOriginalMessage());
+        }
+        imported += flush(batch);
+
+        if (imported > 0) {
+            articleCache.evictLists();
+            articleCache.evictAuthorCounts();
+            eventPublisher.publishEvent(new ArticlesImportedEvent(afterId));
+        }
+        log.info("Article import finished : {} imported, {} skipped, completed={}", imported, skipped, completed);
+        return new ArticleImportResponse(imported, skipped, completed, List.copyOf(errors));
+    }
+
+    private String validate(ImportArticleRequest request) {
+        Set<ConstraintViolation<ImportArticleRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<ImportArticleRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+
+    private void addError(List<ArticleImportResponse.RowError> errors, long row, String message) {
+        if (errors.size() < importProperties.getMaxErrors()) {
+            errors.add(new ArticleImportResponse.RowError(row, message));
+        }
+    }
+
+    private Object[] toParameters(ImportArticleRequest request, String userName) {
+        String author = importProperties.isPreserveAuthor() && request.getAuthor() != null
+                ? request.getAuthor()
+                : userName;
+        // 감사(auditing) 리스너를 거치지 않으므로 생성/수정 시간을 직접 채움
+        Timestamp createdAt = Timestamp.valueOf(
+                request.getCreatedAt() != null ? request.getCreatedAt() : LocalDateTime.now());
+        return new Object[] {request.getTitle(), request.getContent(), author, createdAt, createdAt};
+    }
+
+    // 배치 하나를 트랜잭션 하나로 커밋 (실패해도 앞선 배치는 유지)
+    private int flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+        int size = batch.size();
+        importedCounter.increment(size);
+        batch.clear();
+        return size;
+    }
+}
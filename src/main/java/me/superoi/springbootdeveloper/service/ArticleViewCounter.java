@@ -0,0 +1,146 @@
+package me.superoi.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.superoi.springbootdeveloper.config.ViewCountProperties;
+import me.superoi.springbootdeveloper.dto.MostViewedArticle;
+import me.superoi.springbootdeveloper.repository.BlogRepository;
+import me.superoi.springbootdeveloper.service.search.ArticleChangedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 글 조회수 write-behind 카운터
+// 조회할 때마다 UPDATE 하지 않고 글별 카운트에 모았다가 주기적으로 한 번의 JDBC 배치로 더함
+// 비정상 종료 시 마지막 반영 이후(blog.views.flush-interval)의 조회수만 잃고, 정상 종료 시에는 남은 값을 반영
+// 조회수 상위 목록은 반영 때마다 바뀐 글만 다시 읽어 메모리에서 갱신
+@Slf4j
+@Component
+public class ArticleViewCounter {
+
+    private static final String INCREMENT_SQL = "update article set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlogRepository blogRepository;
+    private final ViewCountProperties viewCountProperties;
+    private final Counter flushedCounter;
+
+    // 글 id -> 아직 반영 안 된 조회수
+    // 증가(merge)와 반영(remove)이 키 단위로 원자적이므로 반영 중에 들어온 조회도 잃지 않음
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    private volatile List<MostViewedArticle> top = List.of();
+
+    public ArticleViewCounter(JdbcTemplate jdbcTemplate, BlogRepository blogRepository,
+                              ViewCountProperties viewCountProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blogRepository = blogRepository;
+        this.viewCountProperties = viewCountProperties;
+        this.flushedCounter = Counter.builder("blog.views.flushed")
+                .description("article views written to the database")
+                .register(meterRegistry);
+        Gauge.builder("blog.views.pending", pending, Map::size)
+                .description("articles with views not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    public void increment(long articleId) {
+        pending.merge(articleId, 1L, Long::sum);
+    }
+
+    // 조회수 상위 글 (마지막 반영 시점 기준)
+    public List<MostViewedArticle> getMostViewed(int limit) {
+        List<MostViewedArticle> snapshot = top;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadMostViewed() {
+        top = List.copyOf(blogRepository.findMostViewed(PageRequest.of(0, viewCountProperties.getTopSize())));
+    }
+
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval:PT5S}")
+    public void flush() {
+        // 키별로 떼어 내므로 반영한 글은 맵에서 빠지고, 이후 조회는 새 항목으로 쌓임
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            Long delta = pending.remove(id);
+            if (delta != null) {
+                deltas.put(id, delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> parameters = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> parameters.add(new Object[] {delta, id}));
+        try {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, parameters, viewCountProperties.getFlushBatchSize(),
+                    (ps, row) -> {
+                        ps.setLong(1, (Long) row[0]);
+                        ps.setLong(2, (Long) row[1]);
+                    });
+        } catch (RuntimeException e) {
+            // DB 장애 시 다음 주기에 다시 시도하도록 되돌려 놓음
+            deltas.forEach((id, delta) -> pending.merge(id, delta, Long::sum));
+            log.warn("Failed to flush {} article view counts, will retry", deltas.size(), e);
+            return;
+        }
+        flushedCounter.increment(deltas.values().stream().mapToLong(Long::longValue).sum());
+        refreshTop(new ArrayList<>(deltas.keySet()));
+    }
+
+    // 조회수는 늘기만 하므로 새로 상위에 들 수 있는 글은 방금 반영한 글뿐
+    private void refreshTop(List<Long> ids) {
+        Map<Long, MostViewedArticle> candidates = new HashMap<>();
+        top.forEach(article -> candidates.put(article.getId(), article));
+        int batchSize = viewCountProperties.getFlushBatchSize();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            blogRepository.findViewCounts(ids.subList(from, Math.min(from + batchSize, ids.size())))
+                    .forEach(article -> candidates.put(article.getId(), article));
+        }
+        top = candidates.values().stream()
+                .sorted(Comparator.comparingLong(MostViewedArticle::getViewCount).reversed()
+                        .thenComparing(MostViewedArticle::getId, Comparator.reverseOrder()))
+                .limit(viewCountProperties.getTopSize())
+                .toList();
+    }
+
+    // 상위 목록의 제목 변경/삭제 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED -> {
+                pending.remove(event.getArticleId());
+                top = top.stream().filter(article -> article.getId() != event.getArticleId()).toList();
+            }
+            case UPDATED -> top = top.stream()
+                    .map(article -> article.getId() == event.getArticleId()
+                            ? article.withTitle(event.getArticle().getTitle())
+                            : article)
+                    .toList();
+            default -> {
+            }
+        }
+    }
+
+    // 종료 시 남은 조회수 반영 (DataSource보다 먼저 정리됨)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,60 +1,219 @@
 package me.superoi.springbootdeveloper.service;
 
 import lombok.RequiredArgsConstructor;
+import me.superoi.springbootdeveloper.config.cache.ArticleCache;
 import me.superoi.springbootdeveloper.config.error.exception.ArticleNotFoundException;
+import me.superoi.springbootdeveloper.config.error.exception.ArticlePreconditionFailedException;
+import me.superoi.springbootdeveloper.config.error.exception.BusinessBaseException;
 import me.superoi.springbootdeveloper.domain.Article;
 import me.superoi.springbootdeveloper.dto.AddArticleRequest;
+import me.superoi.springbootdeveloper.dto.ArticleExport;
+import me.superoi.springbootdeveloper.dto.ArticleCursor;
+import me.superoi.springbootdeveloper.dto.ArticlePageResponse;
+import me.superoi.springbootdeveloper.dto.ArticleSummary;
+import me.superoi.springbootdeveloper.dto.ArticleVersion;
+import me.superoi.springbootdeveloper.dto.AuthorArticlesResponse;
 import me.superoi.springbootdeveloper.dto.UpdateArticleRequest;
 import me.superoi.springbootdeveloper.repository.BlogRepository;
+import me.superoi.springbootdeveloper.service.search.ArticleChangedEvent;
+import me.superoi.springbootdeveloper.util.DigestUtil;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor // final이 붙거나 @NotNull이 붙은 필드의 생성자 추가
 @Service // 빈으로 등록
 public class BlogService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final BlogRepository blogRepository;
+    private final ArticleCache articleCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 블로그 글 추가 메서드
     public Article save(AddArticleRequest addArticleRequest, String userName) {
-        return blogRepository.save(addArticleRequest.toEntity(userName));
+        Article article = blogRepository.save(addArticleRequest.toEntity(userName));
+        articleCache.evictLists();
+        articleCache.evictAuthorCount(userName);
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(article));
+        return article;
+    }
+
+    // 글 목록을 최신순으로 한 페이지씩 조회 (cursor가 없으면 첫 페이지)
+    // 본문 없는 프로젝션만 읽으므로 읽기 전용 트랜잭션으로 플러시/변경 감지 생략
+    @Transactional(readOnly = true)
+    public ArticlePageResponse<ArticleSummary> findPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        // 가장 많이 조회되는 첫 페이지만 캐싱
+        if (cursor == null || cursor.isBlank()) {
+            return articleCache.getFirstPage(pageSize, () -> toPage(blogRepository.findSummaries(limit), pageSize));
+        }
+
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        return toPage(blogRepository.findSummariesAfter(after.getCreatedAt(), after.getId(), limit), pageSize);
+    }
+
+    // 작성자의 글 목록을 최신순으로 한 페이지씩 조회 + 전체 글 수
+    // 글 수 캐시가 비었을 때 primary에서 채울 수 있도록 글 수를 먼저 조회 (커넥션은 첫 SQL 때 정해짐)
+    @Transactional(readOnly = true)
+    public AuthorArticlesResponse findPageByAuthor(String author, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        long total = countByAuthor(author);
+
+        List<ArticleSummary> articles;
+        if (cursor == null || cursor.isBlank()) {
+            articles = blogRepository.findSummariesByAuthor(author, limit);
+        } else {
+            ArticleCursor after = ArticleCursor.decode(cursor);
+            articles = blogRepository.findSummariesByAuthorAfter(author, after.getCreatedAt(), after.getId(), limit);
+        }
+        ArticlePageResponse<ArticleSummary> page = toPage(articles, pageSize);
+        return new AuthorArticlesResponse(author, total, page.getArticles(), page.getNext());
     }
 
-    // db에 저장되어 있는 글 모두 가져오는 findAll() 메서드: JPA 지원 메서드
-    public List<Article> findAll() {
-        return blogRepository.findAllByOrderByCreatedAtDesc();
+    // 작성자의 글 수 (작성/삭제 시 무효화되는 캐시 우선)
+    @Transactional(readOnly = true)
+    public long countByAuthor(String author) {
+        return articleCache.getAuthorCount(author, blogRepository::countByAuthor);
+    }
+
+    private static ArticlePageResponse<ArticleSummary> toPage(List<ArticleSummary> articles, int pageSize) {
+        if (articles.size() <= pageSize) {
+            return new ArticlePageResponse<>(List.copyOf(articles), null);
+        }
+
+        List<ArticleSummary> page = List.copyOf(articles.subList(0, pageSize));
+        ArticleSummary last = page.get(pageSize - 1);
+        return new ArticlePageResponse<>(page, ArticleCursor.of(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    // 전체 글을 id 순서로 한 건씩 전달 (DTO 프로젝션이므로 영속성 컨텍스트에 쌓이지 않아 힙 사용량 일정)
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ArticleExport> consumer) {
+        try (Stream<ArticleExport> articles = blogRepository.streamAllForExport()) {
+            articles.forEach(consumer);
+        }
     }
 
     // 블로그 글 하나 조회하는 api 구현
+    // 캐시된 엔티티는 준영속 상태이므로 조회 용도로만 사용
+    @Transactional(readOnly = true)
     public Article findById(long id) {
-        return blogRepository.findById(id).orElseThrow(ArticleNotFoundException::new);
+        return articleCache.getArticle(id, () ->
+                blogRepository.findById(id).orElseThrow(() -> ArticleNotFoundException.INSTANCE));
+    }
+
+    // 글 버전(수정 시각) 조회 : 캐시에 있으면 DB 조회 없이, 없으면 본문을 제외하고 조회
+    @Transactional(readOnly = true)
+    public ArticleVersion findVersion(long id) {
+        return articleCache.getArticleIfPresent(id)
+                .map(article -> new ArticleVersion(article.getId(), article.getVersion(), article.getUpdatedAt()))
+                .orElseGet(() -> blogRepository.findVersionById(id)
+                        .orElseThrow(() -> ArticleNotFoundException.INSTANCE));
+    }
+
+    // 첫 페이지(기본 크기) 목록 ETag : 렌더링된 목록 화면 캐시 키
+    @Transactional(readOnly = true)
+    public String getCollectionETag() {
+        return listETag(findPage(null, DEFAULT_PAGE_SIZE));
+    }
+
+    // 글 목록 ETag : 인스턴스 상태가 아니라 응답에 담기는 목록(글 요약 + 다음 커서)의 해시
+    // 서버가 여러 대여도 같은 목록이면 같은 ETag, 다른 서버에서 바뀐 목록이면 다른 ETag
+    public static String listETag(ArticlePageResponse<ArticleSummary> page) {
+        StringBuilder content = new StringBuilder();
+        for (ArticleSummary article : page.getArticles()) {
+            content.append(article.getId()).append('\u0000')
+                    .append(article.getTitle()).append('\u0000')
+                    .append(article.getAuthor()).append('\u0000')
+                    .append(article.getCreatedAt()).append('\u0000')
+                    .append(article.getExcerpt()).append('\n');
+        }
+        content.append(page.getNext());
+        return "\"articles-" + DigestUtil.sha256(content.toString()) + "\"";
     }
 
     // 블로그 글 삭제 api
+    // 작성자 본인 글만 DELETE 한 문장으로 삭제 (먼저 조회하지 않음)
+    @Transactional
     public void delete(long id) {
-        Article article = blogRepository.findById(id).orElseThrow(ArticleNotFoundException::new);
-        authorizeArticleAuthor(article);
-        blogRepository.delete(article);
+        afterDelete(id, blogRepository.deleteByIdAndAuthor(id, currentUserName()));
+    }
+
+    // If-Match 삭제 : 버전까지 같을 때만 삭제, 다르면 412
+    @Transactional
+    public void delete(long id, long expectedVersion) {
+        afterDelete(id, blogRepository.deleteIfVersionMatches(id, currentUserName(), expectedVersion));
+    }
+
+    private void afterDelete(long id, int deleted) {
+        if (deleted == 0) {
+            throw conditionalWriteFailure(id);
+        }
+        articleCache.evictArticle(id);
+        articleCache.evictAuthorCount(currentUserName());
+        eventPublisher.publishEvent(ArticleChangedEvent.deleted(id));
     }
 
     // 블로그 글 수정 api
+    // 조회 후 변경 감지로 저장 : 그 사이 다른 요청이 먼저 수정했으면 버전 조건에 걸려 커밋 시 충돌(409)
     @Transactional
     public Article update(long id, UpdateArticleRequest request) {
-        Article article = blogRepository.findById(id).orElseThrow(ArticleNotFoundException::new);
+        Article article = blogRepository.findById(id).orElseThrow(() -> ArticleNotFoundException.INSTANCE);
         authorizeArticleAuthor(article);
         article.update(request.getTitle(), request.getContent());
+        articleCache.evictArticle(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(article));
 
         return article;
     }
 
+    // If-Match 수정 : 작성자와 버전이 맞을 때만 조건부 UPDATE로 수정, 다르면 412
+    // 수정 전 SELECT가 없어 읽고 쓰는 사이 경합은 없지만, 응답 본문과 이벤트에 쓸 최신 상태를
+    // 수정 후 같은 트랜잭션에서 PK로 한 번 더 읽음 (성공 시 UPDATE + SELECT 두 문장)
+    @Transactional
+    public Article update(long id, UpdateArticleRequest request, long expectedVersion) {
+        int updated = blogRepository.updateIfVersionMatches(id, currentUserName(), expectedVersion,
+                request.getTitle(), request.getContent(), LocalDateTime.now());
+        if (updated == 0) {
+            throw conditionalWriteFailure(id);
+        }
+        Article article = blogRepository.findById(id).orElseThrow(() -> ArticleNotFoundException.INSTANCE);
+        articleCache.evictArticle(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(article));
+
+        return article;
+    }
+
+    // 조건부 수정/삭제가 0건일 때만 원인 확인 : 없는 글(404), 작성자 아님, 나머지는 버전 불일치(412)
+    private BusinessBaseException conditionalWriteFailure(long id) {
+        Article article = blogRepository.findById(id).orElseThrow(() -> ArticleNotFoundException.INSTANCE);
+        authorizeArticleAuthor(article);
+        return ArticlePreconditionFailedException.INSTANCE;
+    }
+
     // 게시글을 작성한 유저인지 확인
     private static void authorizeArticleAuthor(Article article) {
-        String userName = SecurityContextHolder.getContext().getAuthentication().getName();
-        if (!article.getAuthor().equals(userName)) {
+        if (!article.getAuthor().equals(currentUserName())) {
             throw new IllegalArgumentException("not authorized");
         }
     }
+
+    private static String currentUserName() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
 }
@@ -1,18 +1,78 @@
 package me.superoi.springbootdeveloper.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import me.superoi.springbootdeveloper.config.datasource.ReadWriteRoutingDataSource;
+import me.superoi.springbootdeveloper.config.jwt.JwtProperties;
 import me.superoi.springbootdeveloper.domain.RefreshToken;
 import me.superoi.springbootdeveloper.repository.RefreshTokenRepository;
+import me.superoi.springbootdeveloper.util.DigestUtil;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-@RequiredArgsConstructor
+import java.time.LocalDateTime;
+
+@Slf4j
 @Service
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final Cache<String, Long> userIds; // 토큰 다이제스트 -> 유저 id (활성 토큰 앞단 캐시)
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userIds = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRefreshTokenCacheSize())
+                .expireAfterWrite(jwtProperties.getRefreshTokenCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIds, "refreshTokens");
+    }
+
+    // 리프레시 토큰 주인의 유저 id 조회 (다이제스트 유니크 인덱스 조회, 캐시 우선)
+    // 교체 직후 복제본의 이전 토큰이 캐싱되지 않도록 캐시를 채우는 조회는 primary에서
+    @Transactional(readOnly = true)
+    public Long findUserIdByRefreshToken(String refreshToken) {
+        Long userId = userIds.get(DigestUtil.sha256(refreshToken), tokenHash ->
+                ReadWriteRoutingDataSource.readFromPrimary(() -> refreshTokenRepository
+                        .findByTokenHash(tokenHash)
+                        .map(RefreshToken::getUserId)
+                        .orElse(null)));
+        if (userId == null) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+        return userId;
+    }
+
+    // 유저의 리프레시 토큰 저장 (기존 토큰은 교체되므로 캐시에서도 제거)
+    @Transactional
+    public void save(Long userId, String refreshToken, LocalDateTime expiresAt) {
+        RefreshToken saved = refreshTokenRepository.findByUserId(userId)
+                .map(entity -> {
+                    userIds.invalidate(entity.getTokenHash());
+                    return entity.update(refreshToken, expiresAt);
+                })
+                .orElseGet(() -> new RefreshToken(userId, refreshToken, expiresAt));
+
+        refreshTokenRepository.save(saved);
+    }
 
-    public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+    // 만료된 토큰 주기적 일괄 삭제 (만료 토큰은 JWT 검증에서 먼저 걸러지므로 캐시는 그대로 둠)
+    // 주기는 JwtProperties 값 그대로 사용 (기본값을 한 곳에서만 관리)
+    @Scheduled(fixedDelayString = "#{@jwtProperties.refreshTokenPurgeInterval.toMillis()}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
     }
 }
@@ -2,6 +2,7 @@ package me.superoi.springbootdeveloper.service;
 
 import lombok.RequiredArgsConstructor;
 import me.superoi.springbootdeveloper.config.jwt.TokenProvider;
+import me.superoi.springbootdeveloper.config.jwt.VerifiedTokenCache;
 import me.superoi.springbootdeveloper.domain.User;
 import org.springframework.stereotype.Service;
 
@@ -14,16 +15,22 @@ public class TokenService {
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public String createNewAccessToken(String refreshToken) {
+    // previousAccessToken : 교체될 기존 액세스 토큰 (없으면 null), 같은 유저의 토큰이면 폐기
+    public String createNewAccessToken(String refreshToken, String previousAccessToken) {
         // 토큰 유효성 검사에 실패하면 예외 발생
-        if (!tokenProvider.validToken(refreshToken)) {
-            throw new IllegalArgumentException("Unexpected token");
-        }
+        tokenProvider.verify(refreshToken).orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
 
-        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
+        Long userId = refreshTokenService.findUserIdByRefreshToken(refreshToken);
         User user = userService.findById(userId);
+        String newAccessToken = tokenProvider.generateToken(user, Duration.ofHours(2));
 
-        return tokenProvider.generateToken(user, Duration.ofHours(2));
+        // 같은 초에 발급되면 새 토큰과 문자열이 같을 수 있으므로 그 경우는 폐기하지 않음
+        tokenProvider.verify(previousAccessToken)
+                .filter(previous -> userId.equals(previous.getUserId()))
+                .filter(previous -> !previousAccessToken.equals(newAccessToken))
+                .ifPresent(previous -> verifiedTokenCache.revoke(previousAccessToken));
+        return newAccessToken;
     }
 }
@@ -3,12 +3,15 @@ package me.superoi.springbootdeveloper.service;
 import lombok.RequiredArgsConstructor;
 import me.superoi.springbootdeveloper.domain.User;
 import me.superoi.springbootdeveloper.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
-public class UserDetailService implements UserDetailsService {
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -16,4 +19,13 @@ public class UserDetailService implements UserDetailsService {
     public User loadUserByUsername(String email) {
         return userRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException(email));
     }
+
+    // 로그인 성공 후 저장된 해시가 현재 인코더 설정과 다르면 스프링 시큐리티가 새 해시로 호출
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        return userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException(user.getUsername()))
+                .updatePassword(newPassword);
+    }
 }
@@ -1,35 +1,55 @@
 package me.superoi.springbootdeveloper.service;
 
-import lombok.RequiredArgsConstructor;
+import me.superoi.springbootdeveloper.config.PasswordHasher;
 import me.superoi.springbootdeveloper.domain.User;
 import me.superoi.springbootdeveloper.dto.AddUserRequest;
 import me.superoi.springbootdeveloper.repository.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
-@RequiredArgsConstructor
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final Executor saveExecutor;
+
+    public UserService(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor saveExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.saveExecutor = saveExecutor;
+    }
 
-    public Long save(AddUserRequest dto) {
+    // 비밀번호 해싱은 전용 스레드 풀에서 수행하고 완료되면 저장
+    // 저장(DB I/O)은 해싱 스레드가 아닌 applicationTaskExecutor에서 : 해싱 스레드가 커넥션 대기로 묶이지 않도록
+    public CompletableFuture<Long> save(AddUserRequest dto) {
 
         if (userRepository.existsByEmail(dto.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
+            return CompletableFuture.failedFuture(new IllegalArgumentException("이미 존재하는 이메일입니다."));
         }
 
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        return userRepository.save(User.builder()
-                .email(dto.getEmail())
-                .password(encoder.encode(dto.getPassword()))
-                .build()).getId();
+        return passwordHasher.encode(dto.getPassword())
+                .thenApplyAsync(encodedPassword -> userRepository.save(User.builder()
+                        .email(dto.getEmail())
+                        .password(encodedPassword)
+                        .build()).getId(), saveExecutor);
     }
 
+    @Transactional(readOnly = true)
     public User findById(Long userId) {
         return userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
 
+    @Transactional(readOnly = true)
     public User findByEmail(String email) {
         return userRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
@@ -0,0 +1,30 @@
+package me.superoi.springbootdeveloper.service.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.superoi.springbootdeveloper.domain.Article;
+
+// BlogService에서 글이 추가/수정/삭제될 때 발행하는 이벤트
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArticleChangedEvent {
+
+    public enum Type { SAVED, UPDATED, DELETED }
+
+    private final Type type;
+    private final long articleId;
+    private final Article article; // 삭제 이벤트는 null
+
+    public static ArticleChangedEvent saved(Article article) {
+        return new ArticleChangedEvent(Type.SAVED, article.getId(), article);
+    }
+
+    public static ArticleChangedEvent updated(Article article) {
+        return new ArticleChangedEvent(Type.UPDATED, article.getId(), article);
+    }
+
+    public static ArticleChangedEvent deleted(long articleId) {
+        return new ArticleChangedEvent(Type.DELETED, articleId, null);
+    }
+}
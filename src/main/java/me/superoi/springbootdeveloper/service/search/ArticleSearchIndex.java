@@ -0,0 +1,304 @@
+package me.superoi.springbootdeveloper.service.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import me.superoi.springbootdeveloper.domain.Article;
+import me.superoi.springbootdeveloper.dto.ArticleIndexEntry;
+import me.superoi.springbootdeveloper.dto.ArticleSearchResponse;
+import me.superoi.springbootdeveloper.repository.BlogRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// 제목/본문 역색인 (인스턴스 메모리)
+// 시작 시 BlogRepository에서 전체를 다시 만들고, 이후에는 ArticleChangedEvent로 증분 반영
+// 본문은 보관하지 않고 단어별 출현 횟수와 목록 표시용 메타데이터만 보관
+//
+// 재구성/가져오기 색인은 락 밖에서 새 Index에 쌓은 뒤 쓰기 락 안에서 한 번에 교체(또는 병합)
+// 그동안 들어온 변경 이벤트는 현재 색인에 바로 반영하면서 따로 기록해 두었다가 새 Index에도 다시 적용
+// 같은 글이면 version이 낮은 쪽은 버리므로, 배치로 읽은 이전 값이 이벤트로 받은 최신 값을 덮어쓰지 않음
+@Slf4j
+@Component
+public class ArticleSearchIndex {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern HANGUL = Pattern.compile(".*\\p{IsHangul}.*");
+    private static final int TITLE_WEIGHT = 3; // 제목에 나온 단어는 본문보다 가중치를 높게
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final BlogRepository blogRepository;
+    private final Timer searchTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index(); // lock 으로 보호
+    private final List<List<Change>> pendingLoads = new ArrayList<>(); // 진행 중인 색인 작업별 변경 기록 (lock 으로 보호)
+
+    public ArticleSearchIndex(BlogRepository blogRepository, MeterRegistry meterRegistry) {
+        this.blogRepository = blogRepository;
+        this.searchTimer = Timer.builder("blog.search.latency")
+                .description("article search query latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("blog.search.index.documents", this, ArticleSearchIndex::size).register(meterRegistry);
+    }
+
+    // 애플리케이션 시작 후 DB 전체를 id 순서로 나눠 읽어 새 색인으로 교체
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int indexed = load(0, true);
+        log.info("Article search index built with {} documents", indexed);
+    }
+
+    // 일괄 가져오기로 들어온 글만 추가 색인
+    // 수십만 건일 수 있으므로 가져오기 요청 스레드를 붙잡지 않도록 커밋 후 별도 스레드에서 실행
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesImported(ArticlesImportedEvent event) {
+        int indexed = load(event.getAfterId(), false);
+        log.info("Article search index added {} imported documents", indexed);
+    }
+
+    // replace 이면 현재 색인을 새로 만든 색인으로 교체, 아니면 현재 색인에 병합
+    private int load(long afterId, boolean replace) {
+        List<Change> changes = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pendingLoads.add(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index fresh = new Index();
+        try {
+            long lastId = afterId;
+            List<ArticleIndexEntry> batch;
+            do {
+                batch = blogRepository.findIndexEntriesAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (ArticleIndexEntry entry : batch) {
+                    fresh.put(document(entry.getId(), entry.getTitle(), entry.getContent(), entry.getAuthor(),
+                            entry.getCreatedAt(), entry.getVersion()));
+                    lastId = entry.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingLoads.removeIf(pending -> pending == changes); // 내용이 같은 다른 기록과 구분
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingLoads.removeIf(pending -> pending == changes); // 내용이 같은 다른 기록과 구분
+            if (replace) {
+                index = fresh;
+                // 읽는 동안 들어온 변경은 현재 색인에는 이미 반영되어 있으므로 새 색인에만 다시 적용
+                changes.forEach(change -> change.applyTo(fresh));
+            } else {
+                // 병합도 하나의 변경이므로 동시에 진행 중인 다른 재구성에도 기록
+                fresh.documents.values().forEach(document -> applyLocked(Change.put(document)));
+                changes.forEach(change -> change.applyTo(index));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return fresh.documents.size();
+    }
+
+    // 트랜잭션 커밋 후 반영 (트랜잭션 밖에서 발행되면 즉시 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            remove(event.getArticleId());
+        } else {
+            put(event.getArticle());
+        }
+    }
+
+    public ArticleSearchResponse search(String query, int page, int size) {
+        return searchTimer.record(() -> doSearch(query, page, size));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(Article article) {
+        Document document = document(article.getId(), article.getTitle(), article.getContent(), article.getAuthor(),
+                article.getCreatedAt(), article.getVersion());
+        apply(Change.put(document));
+    }
+
+    void remove(long articleId) {
+        apply(Change.remove(articleId));
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(Change change) {
+        change.applyTo(index);
+        pendingLoads.forEach(changes -> changes.add(change));
+    }
+
+    // 단어 분석은 락 밖에서
+    private static Document document(
+            Long id, String title, String content, String author, LocalDateTime createdAt, Long version
+    ) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : analyze(title)) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : analyze(content)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return new Document(id, title, author, createdAt, version == null ? 0 : version, frequencies);
+    }
+
+    // 점수 = Σ (가중 빈도 × idf), idf = ln(1 + 전체 문서 수 / 단어가 나온 문서 수)
+    private ArticleSearchResponse doSearch(String query, int page, int size) {
+        Set<String> terms = analyze(query);
+        List<ArticleSearchResponse.Hit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            int total = index.documents.size();
+            for (String term : terms) {
+                Map<Long, Integer> posting = index.postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (double) total / posting.size());
+                posting.forEach((id, frequency) -> scores.merge(id, frequency * idf, Double::sum));
+            }
+            scores.forEach((id, score) -> {
+                Document document = index.documents.get(id);
+                hits.add(new ArticleSearchResponse.Hit(
+                        id, document.title(), document.author(), document.createdAt(), score));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(ArticleSearchResponse.Hit::getScore).reversed()
+                .thenComparing(ArticleSearchResponse.Hit::getId, Comparator.reverseOrder()));
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        return new ArticleSearchResponse(hits.size(), page, size, List.copyOf(hits.subList(from, to)));
+    }
+
+    // 소문자로 바꾸고 문자/숫자가 아닌 곳에서 자름
+    // 한글 단어는 조사가 붙어도 찾을 수 있도록 2글자 조각(bigram)도 함께 색인
+    static Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : SEPARATOR.split(text.toLowerCase())) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            terms.add(token);
+            if (token.length() > 2 && HANGUL.matcher(token).matches()) {
+                for (int i = 0; i + 2 <= token.length(); i++) {
+                    terms.add(token.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    // 역색인 한 벌 : 재구성 중에는 락 밖에서 한 스레드만 쓰고, 교체 후에는 lock 으로 보호
+    private static class Index {
+
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); // 단어 -> (글 id -> 가중 빈도)
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        // 이미 더 높은 version이 들어 있으면 무시
+        void put(Document document) {
+            Document previous = documents.get(document.id());
+            if (previous != null && previous.version() > document.version()) {
+                return;
+            }
+            remove(document.id());
+            document.frequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), frequency));
+            documents.put(document.id(), document);
+        }
+
+        void remove(long articleId) {
+            Document previous = documents.remove(articleId);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous.frequencies().keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(articleId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+
+    private record Document(
+            Long id, String title, String author, LocalDateTime createdAt, long version,
+            Map<String, Integer> frequencies
+    ) {
+    }
+
+    // 삭제는 version 없이 항상 적용 (IDENTITY id는 다시 쓰이지 않음)
+    private record Change(long articleId, Document document) {
+
+        static Change put(Document document) {
+            return new Change(document.id(), document);
+        }
+
+        static Change remove(long articleId) {
+            return new Change(articleId, null);
+        }
+
+        void applyTo(Index index) {
+            if (document == null) {
+                index.remove(articleId);
+            } else {
+                index.put(document);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package me.superoi.springbootdeveloper.service.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 가져오기 완료 : afterId 보다 큰 id 의 글이 새로 들어옴
+@AllArgsConstructor
+@Getter
+public class ArticlesImportedEvent {
+
+    private final long afterId;
+}
@@ -34,11 +34,14 @@ public class CookieUtil {
     }
 
     // 객체를 직렬화해 쿠키의 값으로 변환
+    // 자바 직렬화라 쿠키가 크고 역직렬화 위험이 있음 : OAuth2 인가 요청은 OAuth2AuthorizationRequestCodec 사용
+    @Deprecated
     public static String serialize(Object obj) {
         return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(obj));
     }
 
     // 쿠키를 역직렬화해 객체로 변환
+    @Deprecated
     public static <T> T deserialize(Cookie cookie, Class<T> cls) {
         return cls.cast(SerializationUtils.deserialize(Base64.getUrlDecoder().decode(cookie.getValue())));
     }
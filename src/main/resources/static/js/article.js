@@ -10,12 +10,12 @@ if (deleteButton) {
             location.replace("/articles");
         }
 
-        function fail() {
-            alert("삭제 실패했습니다.");
+        function fail(status) {
+            alert(status === 412 ? "다른 곳에서 먼저 수정된 글입니다. 새로고침 후 다시 시도해 주세요." : "삭제 실패했습니다.");
             location.replace("/articles");
         }
 
-        httpRequest("DELETE", "/api/articles/" + id, null, success, fail);
+        httpRequest("DELETE", "/api/articles/" + id, null, success, fail, ifMatch(id));
     });
 }
 
@@ -35,12 +35,12 @@ if (modifyButton) {
             location.replace(`/articles/${id}`);
         }
 
-        function fail() {
-            alert('수정 실패했습니다.');
+        function fail(status) {
+            alert(status === 412 ? '다른 곳에서 먼저 수정된 글입니다. 새로고침 후 다시 시도해 주세요.' : '수정 실패했습니다.');
             location.replace(`/articles/${id}`);
         }
 
-        httpRequest('PUT', `/api/articles/${id}`, body, success, fail);
+        httpRequest('PUT', `/api/articles/${id}`, body, success, fail, ifMatch(id));
     });
 }
 
@@ -67,6 +67,12 @@ if (createButton) {
     });
 }
 
+// 화면을 그릴 때의 글 버전 (수정/삭제 시 If-Match 로 보내서 그 사이 다른 수정이 있으면 412)
+function ifMatch(id) {
+    const version = document.getElementById('article-version');
+    return version && version.value ? `"${id}-${version.value}"` : null;
+}
+
 // 쿠키를 가져오는 함수
 function getCookie(key) {
     var result = null;
@@ -84,13 +90,17 @@ function getCookie(key) {
 }
 
 // HTTP 요청을 보내는 함수
-function httpRequest(method, url, body, success, fail) {
+function httpRequest(method, url, body, success, fail, ifMatch) {
+    const headers = { // 로컬 스토리지에서 액세스 토큰 값을 가져와 헤더에 추가
+        Authorization: 'Bearer ' + localStorage.getItem('access_token'),
+        'Content-Type': 'application/json',
+    };
+    if (ifMatch) {
+        headers['If-Match'] = ifMatch;
+    }
     fetch(url, {
         method: method,
-        headers: { // 로컬 스토리지에서 액세스 토큰 값을 가져와 헤더에 추가
-            Authorization: 'Bearer ' + localStorage.getItem('access_token'),
-            'Content-Type': 'application/json',
-        },
+        headers: headers,
         body: body,
     }).then(response => {
         if (response.status === 200 || response.status === 201) {
@@ -115,11 +125,11 @@ function httpRequest(method, url, body, success, fail) {
                 })
                 .then(result => { // 재발급이 성공하면 로컬 스토리지값을 새로운 액세스 토큰으로 교체
                     localStorage.setItem('access_token', result.accessToken);
-                    httpRequest(method, url, body, success, fail);
+                    httpRequest(method, url, body, success, fail, ifMatch);
                 })
                 .catch(error => fail());
         } else {
-            return fail();
+            return fail(response.status);
         }
     });
 }
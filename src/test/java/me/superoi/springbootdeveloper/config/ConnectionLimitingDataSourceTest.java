@@ -0,0 +1,97 @@
+package me.superoi.springbootdeveloper.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+
+    @DisplayName("close() : 커넥션을 닫으면 허가를 반납하고, 여러 번 닫아도 한 번만 반납한다.")
+    @Test
+    void releasesPermitOnClose() throws SQLException {
+        // given
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, 100);
+
+        // when
+        Connection limited = dataSource.getConnection();
+        int whileOpen = dataSource.availablePermits();
+        limited.close();
+        limited.close();
+
+        // then
+        assertThat(whileOpen).isEqualTo(1);
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(connection, times(2)).close();
+    }
+
+    @DisplayName("getConnection() : 허가를 제한 시간 안에 받지 못하면 SQLTransientConnectionException으로 실패한다.")
+    @Test
+    void timesOutWithoutPermit() throws SQLException {
+        // given
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 50);
+        Connection held = dataSource.getConnection();
+
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("timed out after 50ms");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(50);
+        assertThat(dataSource.availablePermits()).isZero();
+        verify(target, times(1)).getConnection();
+        held.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @DisplayName("getConnection() : 허가를 기다리다 인터럽트되면 인터럽트 상태를 유지한 채 실패한다.")
+    @Test
+    void interruptedWhileWaiting() throws SQLException {
+        // given
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 10_000);
+        dataSource.getConnection();
+
+        // when
+        Thread.currentThread().interrupt();
+
+        // then
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+        assertThat(Thread.interrupted()).isTrue(); // 확인하면서 인터럽트 상태 정리
+        assertThat(dataSource.availablePermits()).isZero();
+    }
+
+    @DisplayName("getConnection() : 대상 데이터소스가 실패하면 받은 허가를 돌려준다.")
+    @Test
+    void releasesPermitWhenTargetFails() throws SQLException {
+        // given
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 100);
+
+        // when
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+
+        // then
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
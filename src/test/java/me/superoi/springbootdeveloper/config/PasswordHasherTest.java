@@ -0,0 +1,57 @@
+package me.superoi.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.superoi.springbootdeveloper.config.error.exception.PasswordHashRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+
+    @DisplayName("encode() : 해싱 스레드와 대기열이 모두 차면 기다리지 않고 PasswordHashRejectedException으로 실패한다.")
+    @Test
+    void encodeRejectsWhenSaturated() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS); // 해싱 스레드를 붙잡아 둠
+            return "hashed-" + invocation.getArgument(0);
+        });
+        PasswordProperties properties = new PasswordProperties();
+        properties.setHashThreads(1);
+        properties.setHashQueueCapacity(1);
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, properties, new SimpleMeterRegistry());
+
+        try {
+            // when
+            CompletableFuture<String> running = passwordHasher.encode("first");
+            CompletableFuture<String> queued = passwordHasher.encode("second");
+            CompletableFuture<String> rejected = passwordHasher.encode("third");
+
+            // then
+            assertThat(rejected).isCompletedExceptionally();
+            assertThatThrownBy(rejected::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(PasswordHashRejectedException.class);
+
+            release.countDown();
+            assertThat(running.get(10, TimeUnit.SECONDS)).isEqualTo("hashed-first");
+            assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo("hashed-second");
+        } finally {
+            release.countDown();
+            passwordHasher.destroy();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package me.superoi.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.catalina.Valve;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResponseSizeValveTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Valve next = mock(Valve.class);
+    private final Request request = mock(Request.class);
+    private final Response response = mock(Response.class);
+
+    @DisplayName("invoke() : 다음 밸브를 실행한 뒤 쓴 바이트를 콘텐츠 종류/인코딩별로 기록한다.")
+    @Test
+    void recordsBytesByTypeAndEncoding() throws Exception {
+        // given
+        ResponseSizeValve valve = newValve();
+
+        // when
+        respond(valve, "application/json;charset=UTF-8", null, 2048);
+        respond(valve, "application/json", null, 1024);
+        respond(valve, "application/javascript", "gzip", 512);
+        respond(valve, null, null, 0);
+
+        // then
+        verify(next, times(4)).invoke(request, response);
+        DistributionSummary json = summary("json", "identity");
+        assertThat(json.count()).isEqualTo(2);
+        assertThat(json.totalAmount()).isEqualTo(3072);
+        assertThat(summary("javascript", "gzip").totalAmount()).isEqualTo(512);
+        assertThat(summary("none", "identity").count()).isEqualTo(1);
+    }
+
+    @DisplayName("invoke() : 비동기 응답은 아직 끝나지 않았으므로 기록하지 않는다.")
+    @Test
+    void skipsAsyncResponse() throws Exception {
+        // given
+        ResponseSizeValve valve = newValve();
+        when(request.isAsync()).thenReturn(true);
+
+        // when
+        respond(valve, "application/x-ndjson", null, 4096);
+
+        // then
+        assertThat(meterRegistry.find("blog.http.response.bytes").summaries()).isEmpty();
+    }
+
+    private ResponseSizeValve newValve() {
+        ResponseSizeValve valve = new ResponseSizeValve(meterRegistry);
+        valve.setNext(next);
+        return valve;
+    }
+
+    private void respond(ResponseSizeValve valve, String contentType, String contentEncoding, long bytes)
+            throws Exception {
+        when(response.getContentType()).thenReturn(contentType);
+        when(response.getHeader("Content-Encoding")).thenReturn(contentEncoding);
+        when(response.getContentWritten()).thenReturn(bytes);
+        valve.invoke(request, response);
+    }
+
+    private DistributionSummary summary(String type, String encoding) {
+        return meterRegistry.get("blog.http.response.bytes").tag("type", type).tag("encoding", encoding).summary();
+    }
+}
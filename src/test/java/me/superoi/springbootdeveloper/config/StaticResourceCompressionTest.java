@@ -0,0 +1,121 @@
+package me.superoi.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 Tomcat으로 띄워야 server.compression 과 ResponseSizeValve 가 동작하므로 MockMvc 대신 HTTP로 요청
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:static-resource-test"
+)
+class StaticResourceCompressionTest {
+
+    private static final String VERSIONED_SCRIPT = "/js/article-[0-9a-f]{32}\\.js";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient(); // 압축을 풀지 않으므로 Content-Encoding 그대로 확인
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ResourceUrlProvider resourceUrlProvider;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @DisplayName("정적 리소스 : 해시가 붙은 URL은 빌드 때 만든 .gz를 gzip으로 내려주고 1년 public 캐시를 붙인다.")
+    @Test
+    void versionedResourceIsPrecompressedAndCached() throws Exception {
+        // given
+        String url = resourceUrlProvider.getForLookupPath("/js/article.js");
+
+        // when
+        HttpResponse<byte[]> response = get(url, "gzip");
+
+        // then
+        assertThat(url).matches(VERSIONED_SCRIPT);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().firstValue("Cache-Control")).hasValue("max-age=31536000, public");
+        assertThat(gunzip(response.body())).contains("function");
+        assertThat(awaitRecorded("javascript", "gzip").totalAmount()).isEqualTo(response.body().length);
+    }
+
+    @DisplayName("정적 리소스 : 해시 없는 URL과 gzip을 받지 않는 요청은 압축 없이 내려주고 매번 재검증한다.")
+    @Test
+    void unversionedResourceIsRevalidated() throws Exception {
+        // when
+        HttpResponse<byte[]> response = get("/js/article.js", null);
+        HttpResponse<byte[]> missing = get("/js/article-00000000000000000000000000000000.js", "gzip");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(response.headers().firstValue("Cache-Control")).hasValue("no-cache");
+        assertThat(response.headers().firstValue("Last-Modified")).isPresent();
+        assertThat(missing.statusCode()).isEqualTo(404);
+    }
+
+    @DisplayName("동적 응답 : 1KB 넘는 HTML은 gzip으로 압축되고, 스크립트 링크는 해시가 붙은 URL로 바뀐다.")
+    @Test
+    void dynamicHtmlIsCompressed() throws Exception {
+        // when
+        HttpResponse<byte[]> response = get("/articles", "gzip");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().allValues("Vary")).anyMatch(vary -> vary.contains("Accept-Encoding"));
+        String html = gunzip(response.body());
+        assertThat(html).containsPattern(VERSIONED_SCRIPT).doesNotContain("/js/article.js");
+        // 애플리케이션이 쓴 바이트(Tomcat 압축 전)라 전송된 바이트보다 큼
+        // Tomcat이 압축할 때 붙이는 Content-Encoding은 커밋 시점에 따라 밸브에 보일 수도 있어 encoding 태그는 보지 않음
+        assertThat(awaitRecorded("html", null).max()).isGreaterThan(response.body().length);
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // 밸브는 응답을 보낸 뒤에 기록하므로 클라이언트가 먼저 응답을 받을 수 있음
+    // encoding 이 null 이면 인코딩 태그와 관계없이 찾음
+    private DistributionSummary awaitRecorded(String type, String encoding) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            Search search = meterRegistry.find("blog.http.response.bytes").tag("type", type);
+            DistributionSummary summary = (encoding != null ? search.tag("encoding", encoding) : search).summary();
+            if (summary != null && summary.count() > 0) {
+                return summary;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("blog.http.response.bytes{type=" + type + ", encoding=" + encoding + "} not recorded");
+    }
+}
@@ -0,0 +1,136 @@
+package me.superoi.springbootdeveloper.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.superoi.springbootdeveloper.domain.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArticleCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void cleanUp() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("getArticle() : 처음에는 loader로 조회하고, 이후에는 캐시에서 반환한다.")
+    @Test
+    void getArticleHitAndMiss() {
+        // given
+        ArticleCache cache = newCache(null);
+
+        // when
+        Article first = cache.getArticle(1L, () -> load("제목"));
+        Article second = cache.getArticle(1L, () -> load("다른 제목"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "articles").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(cache.getArticleIfPresent(1L)).containsSame(first);
+        assertThat(cache.getArticleIfPresent(2L)).isEmpty();
+    }
+
+    @DisplayName("evictArticle() : 커밋 전에 이전 값이 다시 캐싱되어도 커밋 후 한 번 더 지운다.")
+    @Test
+    void evictArticleAfterCommit() {
+        // given
+        ArticleCache cache = newCache(null);
+        cache.getArticle(1L, () -> load("수정 전"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.evictArticle(1L);
+        // 커밋 전에 다른 요청이 아직 커밋되지 않은 수정 전 값을 다시 캐싱
+        cache.getArticle(1L, () -> load("수정 전"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(cache.getArticleIfPresent(1L)).isEmpty();
+        assertThat(cache.getArticle(1L, () -> load("수정 후")).getTitle()).isEqualTo("수정 후");
+    }
+
+    @DisplayName("evictArticle() : 트랜잭션 밖에서는 바로 지운다.")
+    @Test
+    void evictArticleWithoutTransaction() {
+        // given
+        ArticleCache cache = newCache(null);
+        cache.getArticle(1L, () -> load("수정 전"));
+
+        // when
+        cache.evictArticle(1L);
+
+        // then
+        assertThat(cache.getArticleIfPresent(1L)).isEmpty();
+    }
+
+    @DisplayName("getArticle() : 다른 인스턴스가 공유 캐시에 올린 글은 loader 없이 가져오고, 무효화하면 공유 캐시에서도 지운다.")
+    @Test
+    void getArticleThroughSharedCache() {
+        // given
+        InMemorySharedArticleCache sharedCache = new InMemorySharedArticleCache();
+        ArticleCache instanceA = newCache(sharedCache);
+        ArticleCache instanceB = newCache(sharedCache);
+        Article article = instanceA.getArticle(1L, () -> load("제목"));
+
+        // when
+        Article fromShared = instanceB.getArticle(1L, () -> load("다른 제목"));
+        instanceA.evictArticle(1L);
+
+        // then
+        assertThat(fromShared).isSameAs(article);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("blog.cache.shared.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(sharedCache.get("article:1")).isEmpty();
+    }
+
+    @DisplayName("InMemorySharedArticleCache : TTL이 지난 항목은 반환하지 않고, prefix로 여러 키를 지운다.")
+    @Test
+    void inMemorySharedCache() throws InterruptedException {
+        // given
+        InMemorySharedArticleCache sharedCache = new InMemorySharedArticleCache();
+        sharedCache.put("article:1", "글 1", Duration.ofMinutes(1));
+        sharedCache.put("articles:first:10", "목록 10", Duration.ofMinutes(1));
+        sharedCache.put("articles:first:20", "목록 20", Duration.ofMinutes(1));
+        sharedCache.put("article:2", "글 2", Duration.ofMillis(1));
+
+        // when
+        Thread.sleep(10);
+        sharedCache.evictByPrefix("articles:first:");
+
+        // then
+        assertThat(sharedCache.get("article:1")).contains("글 1");
+        assertThat(sharedCache.get("article:2")).isEmpty();
+        assertThat(sharedCache.get("articles:first:10")).isEmpty();
+        assertThat(sharedCache.get("articles:first:20")).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArticleCache newCache(SharedArticleCache sharedCache) {
+        ObjectProvider<SharedArticleCache> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(sharedCache);
+        return new ArticleCache(new ArticleCacheProperties(), provider, meterRegistry);
+    }
+
+    private Article load(String title) {
+        loads.incrementAndGet();
+        return Article.builder().author("user@email.com").title(title).content("본문").build();
+    }
+}
@@ -0,0 +1,154 @@
+package me.superoi.springbootdeveloper.config.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.superoi.springbootdeveloper.dto.ArticleVersion;
+import me.superoi.springbootdeveloper.service.ArticleViewCounter;
+import me.superoi.springbootdeveloper.service.BlogService;
+import me.superoi.springbootdeveloper.service.search.ArticleChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RenderedPageCacheFilterTest {
+
+    private final BlogService blogService = mock(BlogService.class);
+    private final ArticleViewCounter articleViewCounter = mock(ArticleViewCounter.class);
+    private final RenderedPageCache renderedPageCache =
+            new RenderedPageCache(new ArticleCacheProperties(), new SimpleMeterRegistry());
+    private final RenderedPageCacheFilter filter =
+            new RenderedPageCacheFilter(renderedPageCache, blogService, articleViewCounter);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(blogService.getCollectionETag()).thenReturn("\"articles-1\"");
+        when(blogService.findVersion(1L)).thenReturn(new ArticleVersion(1L, 0L, LocalDateTime.now()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("처음 요청은 렌더링해서 저장하고, 다음 요청은 렌더링 없이 같은 HTML과 ETag를 응답한다.")
+    @Test
+    void servesCachedPage() throws Exception {
+        // given
+        anonymous();
+        MockHttpServletResponse miss = perform("/articles/1", null);
+
+        // when
+        MockHttpServletResponse hit = perform("/articles/1", null);
+
+        // then
+        assertThat(renders).hasValue(1);
+        assertThat(hit.getContentAsString()).isEqualTo(miss.getContentAsString());
+        assertThat(hit.getHeader("ETag")).isEqualTo("\"page-1-0\"").isEqualTo(miss.getHeader("ETag"));
+        assertThat(hit.getHeader("Cache-Control")).isEqualTo("private, no-cache");
+        verify(articleViewCounter).increment(1L);
+    }
+
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답한다.")
+    @Test
+    void notModified() throws Exception {
+        // given
+        anonymous();
+        String eTag = perform("/articles/1", null).getHeader("ETag");
+
+        // when
+        MockHttpServletResponse result = perform("/articles/1", eTag);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(304);
+        assertThat(result.getContentAsByteArray()).isEmpty();
+    }
+
+    @DisplayName("글이 바뀌면 저장된 상세/목록 HTML을 버리고 다시 렌더링한다.")
+    @Test
+    void invalidatesOnArticleChanged() throws Exception {
+        // given
+        anonymous();
+        perform("/articles/1", null);
+        perform("/articles", null);
+
+        // when
+        renderedPageCache.onArticleChanged(ArticleChangedEvent.deleted(1L));
+        perform("/articles/1", null);
+        perform("/articles", null);
+
+        // then
+        assertThat(renders).hasValue(4);
+    }
+
+    @DisplayName("로그인 사용자의 목록 요청은 캐시를 쓰지도 채우지도 않는다.")
+    @Test
+    void listIsNotSharedWithAuthenticatedUsers() throws Exception {
+        // given
+        login("user@email.com");
+        MockHttpServletResponse authenticated = perform("/articles", null);
+
+        // when
+        anonymous();
+        MockHttpServletResponse anonymousMiss = perform("/articles", null);
+        login("user@email.com");
+        perform("/articles", null);
+
+        // then
+        assertThat(renders).hasValue(3);
+        assertThat(authenticated.getHeader("ETag")).isNull();
+        assertThat(anonymousMiss.getContentAsString()).contains("anonymous");
+        assertThat(renderedPageCache.getList(anonymousMiss.getHeader("ETag"))).isPresent();
+    }
+
+    private MockHttpServletResponse perform(String uri, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new RenderingServlet()));
+        return response;
+    }
+
+    // 템플릿 대신 현재 사용자 이름을 찍는 서블릿
+    private class RenderingServlet extends HttpServlet {
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            renders.incrementAndGet();
+            response.setContentType("text/html;charset=UTF-8");
+            response.getWriter().write("<html>" + SecurityContextHolder.getContext().getAuthentication().getName()
+                    + request.getRequestURI() + "</html>");
+        }
+    }
+
+    private static void anonymous() {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymous", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
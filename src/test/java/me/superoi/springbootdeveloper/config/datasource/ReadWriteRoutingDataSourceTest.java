@@ -0,0 +1,116 @@
+package me.superoi.springbootdeveloper.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 H2 두 개를 primary/replica 로 두고 어느 쪽에서 읽었는지 확인
+class ReadWriteRoutingDataSourceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        DataSource replica = node("replica");
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primary, replica, new ReadYourWritesTracker(Duration.ofMinutes(1), 100), meterRegistry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("readOnly 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖 조회는 primary에서 실행된다.")
+    @Test
+    void routesByTransactionReadOnlyFlag() {
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+
+        assertThat(meterRegistry.get("blog.datasource.routes").tag("target", "replica").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("쓰기를 커밋한 사용자의 readOnly 조회는 primary로 가고, 다른 사용자는 replica로 간다.")
+    @Test
+    void readYourWrites() {
+        // given
+        login("writer@email.com");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("insert into node (name) values ('written')"));
+
+        // when
+        List<String> ownRead = readOnly.execute(status -> jdbcTemplate.queryForList("select name from node", String.class));
+        login("reader@email.com");
+        String otherRead = readOnly.execute(status -> currentNode());
+
+        // then
+        assertThat(ownRead).containsExactly("primary", "written");
+        assertThat(otherRead).isEqualTo("replica");
+        assertThat(meterRegistry.get("blog.datasource.routes").tag("reason", "read-your-writes").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("롤백된 쓰기 트랜잭션은 read-your-writes 대상이 아니다.")
+    @Test
+    void rolledBackWriteIsNotSticky() {
+        // given
+        login("writer@email.com");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into node (name) values ('written')");
+            status.setRollbackOnly();
+        });
+
+        // when
+        String read = readOnly.execute(status -> currentNode());
+
+        // then
+        assertThat(read).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node order by name limit 1", String.class);
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    // 테스트마다 새로 만들어지도록 이름에 nanoTime 을 붙임
+    private static DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("create table node (name varchar(16))");
+        new JdbcTemplate(dataSource).update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
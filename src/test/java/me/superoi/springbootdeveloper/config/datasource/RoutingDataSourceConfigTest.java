@@ -0,0 +1,103 @@
+package me.superoi.springbootdeveloper.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.superoi.springbootdeveloper.config.cache.ArticleCache;
+import me.superoi.springbootdeveloper.domain.Article;
+import me.superoi.springbootdeveloper.dto.AddArticleRequest;
+import me.superoi.springbootdeveloper.repository.BlogRepository;
+import me.superoi.springbootdeveloper.service.BlogService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary/replica 를 같은 H2 로 두고 JPA 서비스 호출이 어느 풀로 라우팅되는지 카운터로 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingdb",
+        "blog.datasource.replica.url=jdbc:h2:mem:routingdb",
+        "blog.datasource.replica.driver-class-name=org.h2.Driver",
+        "blog.datasource.replica.username=sa"
+})
+class RoutingDataSourceConfigTest {
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleCache articleCache;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        blogRepository.deleteAll();
+        articleCache.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("readOnly 조회는 replica에서, 캐시를 채우는 조회는 primary에서 실행된다.")
+    @Test
+    void cacheLoadsReadFromPrimary() {
+        // given
+        String author = "author@routing.com";
+        Article article = blogRepository.save(new Article(author, "title", "content"));
+        double replicaReads = routes("replica", "read");
+        double cacheLoads = routes("primary", "cache-load");
+
+        // when
+        blogService.findVersion(article.getId()); // 캐시 없음 -> replica
+        blogService.findById(article.getId()); // 캐시 채움 -> primary
+        blogService.findVersion(article.getId()); // 캐시 적중 -> DB 조회 없음
+        blogService.findPageByAuthor(author, null, 20); // 글 수 캐시 채움이 먼저 -> 목록까지 primary
+        blogService.findPageByAuthor(author, null, 20); // 글 수 캐시 적중 -> replica
+
+        // then
+        assertThat(routes("replica", "read") - replicaReads).isEqualTo(2);
+        assertThat(routes("primary", "cache-load") - cacheLoads).isEqualTo(2);
+    }
+
+    @DisplayName("JPA로 쓰기를 커밋한 사용자의 readOnly 조회는 primary, 다른 사용자는 replica로 간다.")
+    @Test
+    void readYourWrites() {
+        // given
+        login("writer@routing.com");
+        Article article = blogService.save(new AddArticleRequest("title", "content"), "writer@routing.com");
+        double replicaReads = routes("replica", "read");
+        double stickyReads = routes("primary", "read-your-writes");
+
+        // when
+        blogService.findVersion(article.getId());
+        login("reader@routing.com");
+        blogService.findVersion(article.getId());
+
+        // then
+        assertThat(routes("primary", "read-your-writes") - stickyReads).isEqualTo(1);
+        assertThat(routes("replica", "read") - replicaReads).isEqualTo(1);
+    }
+
+    private double routes(String target, String reason) {
+        return meterRegistry.get("blog.datasource.routes").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
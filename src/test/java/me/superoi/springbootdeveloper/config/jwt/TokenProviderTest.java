@@ -80,6 +80,43 @@ class TokenProviderTest {
         assertThat(result).isTrue();
     }
 
+    @DisplayName("verify() : 한 번의 검증으로 유저 이메일과 id를 담은 클레임을 얻는다.")
+    @Test
+    void verify() {
+        // given
+        String userEmail = "user@email.com";
+        String token = JwtFactory.builder()
+                .subject(userEmail)
+                .claims(Map.of("id", 1L))
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        VerifiedToken verifiedToken = tokenProvider.verify(token).orElseThrow();
+
+        // then
+        assertThat(verifiedToken.getSubject()).isEqualTo(userEmail);
+        assertThat(verifiedToken.getUserId()).isEqualTo(1L);
+        assertThat(((UserDetails) tokenProvider.getAuthentication(verifiedToken).getPrincipal()).getUsername())
+                .isEqualTo(userEmail);
+    }
+
+    @DisplayName("verify() : 서명이 다른 토큰은 검증에 실패한다.")
+    @Test
+    void verify_invalidSignature() {
+        // given
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setIssuer(jwtProperties.getIssuer());
+        otherProperties.setSecretKey("other-secret-key");
+        String token = JwtFactory.withDefaultValues().createToken(otherProperties);
+
+        // when
+        boolean present = tokenProvider.verify(token).isPresent();
+
+        // then
+        assertThat(present).isFalse();
+    }
+
     @DisplayName("getAuthentication() : 토큰 기반으로 인증 정보를 가져올 수 있다.")
     @Test
     void getAuthentication() {
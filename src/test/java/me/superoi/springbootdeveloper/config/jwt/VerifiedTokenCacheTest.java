@@ -0,0 +1,177 @@
+package me.superoi.springbootdeveloper.config.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtProperties jwtProperties = new JwtProperties();
+
+    VerifiedTokenCacheTest() {
+        jwtProperties.setIssuer("test@blogapp.com");
+        jwtProperties.setSecretKey("test-secret-key");
+    }
+
+    @DisplayName("verify() : 캐시 항목은 토큰의 exp 시점에 만료되어 다시 서명 검증을 거친다.")
+    @Test
+    void expiresAtTokenExpiry() {
+        // given
+        VerifiedTokenCache cache = newCache();
+        String token = createToken(Duration.ofMinutes(5));
+        cache.verify(token);
+        cache.verify(token);
+
+        // when
+        clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+        cache.verify(token); // 실제 시각으로는 아직 유효하므로 TokenProvider 검증은 통과
+
+        // then
+        assertThat(verifyCount("cached")).isEqualTo(1);
+        assertThat(verifyCount("verified")).isEqualTo(2);
+    }
+
+    @DisplayName("verify() : exp가 더 멀어도 verifiedCacheMaxTtl이 지나면 다시 서명 검증을 거친다.")
+    @Test
+    void expiresAtMaxTtl() {
+        // given
+        jwtProperties.setVerifiedCacheMaxTtl(Duration.ofMinutes(10));
+        VerifiedTokenCache cache = newCache();
+        String token = createToken(Duration.ofDays(14));
+        cache.verify(token);
+
+        // when
+        clock.advance(Duration.ofMinutes(9));
+        cache.verify(token);
+        clock.advance(Duration.ofMinutes(2));
+        cache.verify(token);
+
+        // then
+        assertThat(verifyCount("cached")).isEqualTo(1);
+        assertThat(verifyCount("verified")).isEqualTo(2);
+    }
+
+    @DisplayName("verify() : 최대 항목 수를 넘으면 항목이 정리된다.")
+    @Test
+    void evictsOverMaximumSize() {
+        // given
+        jwtProperties.setVerifiedCacheSize(2);
+        VerifiedTokenCache cache = newCache();
+
+        // when
+        for (long userId = 1; userId <= 3; userId++) {
+            cache.verify(createToken(Duration.ofMinutes(5), userId));
+        }
+        cache.cleanUp();
+
+        // then
+        assertThat(meterRegistry.get("cache.size").tag("cache", "verifiedTokens").gauge().value())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "verifiedTokens").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("revoke() : 폐기된 토큰은 서명이 유효해도 검증에 실패한다.")
+    @Test
+    void rejectsRevokedToken() {
+        // given
+        VerifiedTokenCache cache = newCache();
+        String token = createToken(Duration.ofMinutes(5));
+        cache.verify(token);
+
+        // when
+        cache.revoke(token);
+
+        // then
+        assertThat(cache.verify(token)).isEmpty();
+        assertThat(verifyCount("revoked")).isEqualTo(1);
+        assertThat(cache.verify(createToken(Duration.ofMinutes(5), 2L))).isPresent();
+    }
+
+    @DisplayName("revoke() : 폐기 목록은 verifiedCacheSize를 넘어도 정리되지 않고 exp 까지 거절한다.")
+    @Test
+    void keepsRevocationsBeyondCacheSize() {
+        // given
+        jwtProperties.setVerifiedCacheSize(2);
+        jwtProperties.setVerifiedCacheMaxTtl(Duration.ofMinutes(1));
+        VerifiedTokenCache cache = newCache();
+        List<String> tokens = new ArrayList<>();
+        for (long userId = 1; userId <= 10; userId++) {
+            tokens.add(createToken(Duration.ofHours(1), userId));
+        }
+
+        // when
+        tokens.forEach(cache::revoke);
+        cache.cleanUp();
+        clock.advance(Duration.ofMinutes(30)); // verifiedCacheMaxTtl 이 지나도 exp 전이면 유지
+        cache.cleanUp();
+
+        // then
+        tokens.forEach(token -> assertThat(cache.verify(token)).isEmpty());
+        assertThat(verifyCount("revoked")).isEqualTo(tokens.size());
+    }
+
+    private VerifiedTokenCache newCache() {
+        return new VerifiedTokenCache(new TokenProvider(jwtProperties), jwtProperties, meterRegistry,
+                clock, () -> TimeUnit.MILLISECONDS.toNanos(clock.millis()));
+    }
+
+    private String createToken(Duration validFor) {
+        return createToken(validFor, 1L);
+    }
+
+    // exp 는 테스트 시계 기준 (TokenProvider 서명 검증은 실제 시각 기준이므로 아직 유효)
+    private String createToken(Duration validFor, Long userId) {
+        return JwtFactory.builder()
+                .issuedAt(Date.from(clock.instant()))
+                .expiration(Date.from(clock.instant().plus(validFor)))
+                .claims(Map.of("id", userId))
+                .build()
+                .createToken(jwtProperties);
+    }
+
+    private long verifyCount(String result) {
+        return meterRegistry.get("blog.jwt.verify").tag("result", result).timer().count();
+    }
+
+    // 테스트에서 직접 앞으로 돌리는 시계
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package me.superoi.springbootdeveloper.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountInterceptor interceptor =
+            new QueryCountInterceptor(meterRegistry, new QueryMetricsProperties());
+    private final QueryCountInspector inspector = new QueryCountInspector();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @DisplayName("afterCompletion() : 요청 동안 실행된 SQL 수를 uri별로 기록한다.")
+    @Test
+    void recordsQueriesPerRequest() {
+        // given
+        MockHttpServletRequest request = request();
+
+        // when
+        interceptor.preHandle(request, response, null);
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, response, null, null);
+
+        // then
+        assertThat(meterRegistry.get("blog.db.queries.per.request").tag("uri", "/api/articles")
+                .summary().totalAmount()).isEqualTo(2);
+    }
+
+    @DisplayName("비동기 요청은 SQL 수를 기록하지 않고, 요청 스레드의 카운트를 정리한다.")
+    @Test
+    void skipsAsyncRequests() {
+        // given
+        MockHttpServletRequest request = request();
+
+        // when : 첫 디스패치에서 비동기 시작, 이후 재디스패치에서 완료
+        interceptor.preHandle(request, response, null);
+        inspector.inspect("select 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        int leftOnRequestThread = QueryCountInspector.get();
+        interceptor.preHandle(request, response, null);
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, response, null, null);
+
+        // then
+        assertThat(leftOnRequestThread).isZero();
+        assertThat(QueryCountInspector.get()).isZero();
+        assertThat(meterRegistry.find("blog.db.queries.per.request").summary()).isNull();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/articles");
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package me.superoi.springbootdeveloper.config.oauth;
+
+import me.superoi.springbootdeveloper.config.jwt.JwtProperties;
+import me.superoi.springbootdeveloper.util.CookieUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OAuth2AuthorizationRequestCodecTest {
+
+    private static final byte[] SECRET = "test-secret-key".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final OAuth2AuthorizationRequestCodec codec =
+            new OAuth2AuthorizationRequestCodec(SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @DisplayName("encode()/decode() : 인가 요청의 모든 필드가 그대로 복원되고 자바 직렬화보다 작다.")
+    @Test
+    @SuppressWarnings("deprecation")
+    void roundTrip() {
+        // given
+        OAuth2AuthorizationRequest request = authorizationRequest();
+
+        // when
+        String encoded = codec.encode(request);
+        OAuth2AuthorizationRequest decoded = codec.decode(encoded);
+
+        // then
+        assertThat(decoded.getAuthorizationUri()).isEqualTo(request.getAuthorizationUri());
+        assertThat(decoded.getClientId()).isEqualTo(request.getClientId());
+        assertThat(decoded.getRedirectUri()).isEqualTo(request.getRedirectUri());
+        assertThat(decoded.getScopes()).isEqualTo(request.getScopes());
+        assertThat(decoded.getState()).isEqualTo(request.getState());
+        assertThat(decoded.getAdditionalParameters()).isEqualTo(request.getAdditionalParameters());
+        assertThat(decoded.getAttributes()).isEqualTo(request.getAttributes());
+        assertThat(decoded.getAuthorizationRequestUri()).isEqualTo(request.getAuthorizationRequestUri());
+        assertThat(encoded.length()).isLessThan(CookieUtil.serialize(request).length());
+    }
+
+    @DisplayName("decode() : 값이 변조되었거나 다른 키로 서명되었으면 null을 반환한다.")
+    @Test
+    void decode_tampered() {
+        // given
+        String encoded = codec.encode(authorizationRequest());
+        int middle = encoded.length() / 2;
+        char replacement = encoded.charAt(middle) == 'A' ? 'B' : 'A';
+        String tampered = encoded.substring(0, middle) + replacement + encoded.substring(middle + 1);
+        OAuth2AuthorizationRequestCodec otherKey = new OAuth2AuthorizationRequestCodec(
+                "other-secret-key".getBytes(StandardCharsets.UTF_8), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when & then
+        assertThat(codec.decode(tampered)).isNull();
+        assertThat(otherKey.decode(encoded)).isNull();
+        assertThat(codec.decode("not-a-cookie")).isNull();
+    }
+
+    @DisplayName("decode() : 쿠키 만료 시간보다 오래된 값은 null을 반환한다.")
+    @Test
+    void decode_expired() {
+        // given
+        String encoded = codec.encode(authorizationRequest());
+        OAuth2AuthorizationRequestCodec later = new OAuth2AuthorizationRequestCodec(
+                SECRET, Clock.fixed(NOW.plus(Duration.ofHours(6)), ZoneOffset.UTC));
+
+        // when & then
+        assertThat(later.decode(encoded)).isNull();
+    }
+
+    @DisplayName("jwt.secret-key 가 없어도 빈은 만들어지고, 실제로 인코딩할 때 설정 누락을 알린다.")
+    @Test
+    void missingSecretKey() {
+        // given
+        OAuth2AuthorizationRequestCodec withoutKey = new OAuth2AuthorizationRequestCodec(new JwtProperties());
+
+        // when & then
+        assertThatThrownBy(() -> withoutKey.encode(authorizationRequest()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jwt.secret-key");
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("blogapp-client-id.apps.googleusercontent.com")
+                .redirectUri("https://blogapp52.duckdns.org/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("0b7c3e52-7f4e-4c8b-9a55-8d2f3c4a1b6e")
+                .additionalParameters(parameters -> parameters.put("nonce", "n-0S6_WzA2Mj"))
+                .attributes(attributes -> attributes.put("registration_id", "google"))
+                .build();
+    }
+}
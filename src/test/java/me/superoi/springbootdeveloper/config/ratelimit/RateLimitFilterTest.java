@@ -0,0 +1,100 @@
+package me.superoi.springbootdeveloper.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.superoi.springbootdeveloper.config.error.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(
+            new RateLimiter(properties(), meterRegistry, now::get), new ObjectMapper());
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("버킷 크기만큼 통과시키고 초과하면 429와 Retry-After를 응답하며, 시간이 지나면 다시 통과시킨다.")
+    @Test
+    void rejectsWhenBucketIsEmpty() throws Exception {
+        // given
+        assertThat(perform("POST", "/api/token", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform("POST", "/api/token", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        // when
+        MockHttpServletResponse rejected = perform("POST", "/api/token", "10.0.0.1");
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        MockHttpServletResponse afterRefill = perform("POST", "/api/token", "10.0.0.1");
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("5");
+        assertThat(rejected.getContentAsString()).contains(ErrorCode.TOO_MANY_REQUESTS.getCode());
+        assertThat(afterRefill.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("blog.ratelimit.rejected")
+                .tag("rule", "token").tag("client", "anonymous").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("IP와 로그인 사용자는 각자 버킷을 갖고, 규칙에 없는 경로와 메서드는 제한하지 않는다.")
+    @Test
+    void bucketsArePerClientAndRule() throws Exception {
+        // given
+        perform("POST", "/api/token", "10.0.0.1");
+        perform("POST", "/api/token", "10.0.0.1");
+
+        // when
+        int otherIp = perform("POST", "/api/token", "10.0.0.2").getStatus();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@email.com", null, List.of()));
+        int user = perform("POST", "/api/token", "10.0.0.1").getStatus();
+        SecurityContextHolder.clearContext();
+        int otherMethod = perform("GET", "/api/token", "10.0.0.1").getStatus();
+        int unmatched = perform("GET", "/login", "10.0.0.1").getStatus();
+
+        // then
+        assertThat(otherIp).isEqualTo(200);
+        assertThat(user).isEqualTo(200);
+        assertThat(otherMethod).isEqualTo(200);
+        assertThat(unmatched).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setServletPath(uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    // /api/token POST : 연속 2번, 5초에 1번 충전
+    private static RateLimitProperties properties() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("token");
+        rule.setPaths(List.of("/api/token"));
+        rule.setMethods(List.of("POST"));
+        rule.setCapacity(2);
+        rule.setRefillPerSecond(0.2);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        return properties;
+    }
+}
@@ -1,6 +1,8 @@
 package me.superoi.springbootdeveloper.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import me.superoi.springbootdeveloper.config.cache.ArticleCache;
 import me.superoi.springbootdeveloper.config.error.ErrorCode;
 import me.superoi.springbootdeveloper.domain.Article;
 import me.superoi.springbootdeveloper.domain.User;
@@ -8,6 +10,8 @@ import me.superoi.springbootdeveloper.dto.AddArticleRequest;
 import me.superoi.springbootdeveloper.dto.UpdateArticleRequest;
 import me.superoi.springbootdeveloper.repository.BlogRepository;
 import me.superoi.springbootdeveloper.repository.UserRepository;
+import me.superoi.springbootdeveloper.service.ArticleViewCounter;
+import me.superoi.springbootdeveloper.service.search.ArticleChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,22 +19,34 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest // 테스트용 애플리케이션 컨텍스트
@@ -51,15 +67,25 @@ class BlogApiControllerTest {
     @Autowired
     BlogRepository blogRepository;
 
+    @Autowired
+    ArticleCache articleCache;
+
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    ArticleViewCounter articleViewCounter;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     User user;
 
     @BeforeEach
     public void mockMvcSetUp() {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
         blogRepository.deleteAll();
+        articleCache.clear(); // 리포지토리로 직접 넣은 데이터와 캐시가 어긋나지 않도록 비움
     }
 
     @BeforeEach
@@ -113,8 +139,153 @@ class BlogApiControllerTest {
         // then
         resultActions
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value(savedArticle.getContent()))
-                .andExpect(jsonPath("$[0].title").value(savedArticle.getTitle()));
+                .andExpect(jsonPath("$.articles[0].excerpt").value(savedArticle.getContent()))
+                .andExpect(jsonPath("$.articles[0].title").value(savedArticle.getTitle()));
+    }
+
+    @DisplayName("findAllArticles: next 커서로 다음 페이지를 이어서 조회한다.")
+    @Test
+    public void findAllArticlesWithCursor() throws Exception {
+        // given
+        final String url = "/api/articles";
+        createDefaultArticle();
+        createDefaultArticle();
+        createDefaultArticle();
+
+        // when
+        final MvcResult firstPage = mockMvc.perform(get(url).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(2))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn();
+        String next = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.next");
+
+        // then
+        mockMvc.perform(get(url).param("size", "2").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(1))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @DisplayName("findAllArticles: 잘못된 커서로 조회하면 400 응답을 받는다.")
+    @Test
+    public void findAllArticlesInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/articles").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_INPUT_VALUE.getCode()));
+    }
+
+    @DisplayName("importArticles: NDJSON으로 받은 글을 검증 후 일괄 저장하고 잘못된 행은 건너뛴다.")
+    @Test
+    public void importArticles() throws Exception {
+        // given
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+        final String body = String.join("\n",
+                "{\"title\":\"title1\",\"content\":\"content1\"}",
+                "{\"title\":\"\",\"content\":\"no title\"}",
+                "{\"title\":\"title2\",\"content\":\"content2\",\"createdAt\":\"2020-01-01T00:00:00\"}");
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(post("/api/articles/import")
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .principal(principal)
+                .content(body));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.errors[0].row").value(1));
+
+        List<Article> articles = blogRepository.findAll();
+        assertThat(articles).hasSize(2);
+        assertThat(articles).allMatch(article -> article.getAuthor().equals("username"));
+        assertThat(articles).anyMatch(article -> article.getCreatedAt().getYear() == 2020);
+    }
+
+    @DisplayName("importArticles: 값의 타입이 맞지 않는 행은 오류로 기록하고 다음 행부터 이어서 저장한다.")
+    @Test
+    public void importArticlesWithTypeMismatch() throws Exception {
+        // given
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+        final String body = String.join("\n",
+                "{\"title\":{\"nested\":[1,2]},\"content\":\"object title\"}",
+                "{\"title\":\"title1\",\"content\":\"content1\",\"createdAt\":\"not-a-date\"}",
+                "{\"title\":\"title2\",\"content\":\"content2\"}");
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(post("/api/articles/import")
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .principal(principal)
+                .content(body));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.skipped").value(2))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.errors[0].row").value(0))
+                .andExpect(jsonPath("$.errors[1].row").value(1));
+
+        assertThat(blogRepository.findAll()).extracting(Article::getTitle).containsExactly("title2");
+    }
+
+    @DisplayName("exportArticles: 전체 글을 한 줄에 하나씩 NDJSON으로 스트리밍한다.")
+    @Test
+    public void exportArticles() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            blogRepository.save(Article.builder().author("user").title("title" + i).content("content" + i).build());
+        }
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/api/articles/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("title0");
+        assertThat(objectMapper.readTree(lines[2]).get("content").asText()).isEqualTo("content2");
+    }
+
+    @DisplayName("searchArticles: 제목과 본문에서 검색어가 포함된 글을 관련도 순으로 찾는다.")
+    @Test
+    public void searchArticles() throws Exception {
+        // given
+        final String url = "/api/articles/search";
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+        for (AddArticleRequest request : List.of(
+                new AddArticleRequest("스프링 캐시 정리", "caffeine 사용법"),
+                new AddArticleRequest("일상", "오늘은 caffeine 대신 차를 마셨다"),
+                new AddArticleRequest("무관한 글", "내용"))) {
+            mockMvc.perform(post("/api/articles")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .principal(principal)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url).param("q", "Caffeine 캐시"));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.articles[0].title").value("스프링 캐시 정리"))
+                .andExpect(jsonPath("$.articles[1].title").value("일상"));
     }
 
     @DisplayName("findArticle: 아티클 단건 글 조회에 성공한다.")
@@ -133,6 +304,109 @@ class BlogApiControllerTest {
 
     }
 
+    @DisplayName("findMostViewedArticles: 조회수는 모아서 DB에 반영되고 상위 글은 메모리에서 조회한다.")
+    @Test
+    public void findMostViewedArticles() throws Exception {
+        // given
+        Article savedArticle = createDefaultArticle();
+        mockMvc.perform(get("/api/articles/{id}", savedArticle.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/articles/{id}", savedArticle.getId())).andExpect(status().isOk());
+        assertThat(blogRepository.findById(savedArticle.getId()).get().getViewCount()).isZero();
+
+        // when
+        articleViewCounter.flush();
+
+        // then
+        assertThat(blogRepository.findById(savedArticle.getId()).get().getViewCount()).isEqualTo(2);
+        mockMvc.perform(get("/api/articles/most-viewed").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(savedArticle.getId()))
+                .andExpect(jsonPath("$[0].viewCount").value(2));
+    }
+
+    @DisplayName("findArticlesByAuthor: 작성자의 글만 최신순으로 전체 글 수와 함께 커서 페이지로 조회한다.")
+    @Test
+    public void findArticlesByAuthor() throws Exception {
+        // given
+        final String url = "/api/users/{author}/articles";
+        Article oldest = createDefaultArticle();
+        Article middle = createDefaultArticle();
+        Article newest = createDefaultArticle();
+        blogRepository.save(Article.builder().title("other").content("content").author("other@gmail.com").build());
+
+        // when
+        ResultActions first = mockMvc.perform(get(url, user.getUsername()).param("size", "2"));
+        String next = JsonPath.read(first.andReturn().getResponse().getContentAsString(), "$.next");
+        ResultActions second = mockMvc.perform(get(url, user.getUsername()).param("size", "2").param("cursor", next));
+
+        // then
+        first.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.articles.length()").value(2))
+                .andExpect(jsonPath("$.articles[0].id").value(newest.getId()))
+                .andExpect(jsonPath("$.articles[1].id").value(middle.getId()));
+        second.andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(1))
+                .andExpect(jsonPath("$.articles[0].id").value(oldest.getId()))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @DisplayName("findArticle: If-None-Match가 현재 ETag와 같으면 304 응답을 받는다.")
+    @Test
+    public void findArticleNotModified() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        String etag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url, savedArticle.getId())
+                .header("If-None-Match", etag));
+
+        // then
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+    }
+
+    @DisplayName("findAllArticles: 글이 추가되면 목록 ETag가 바뀌어 다시 200 응답을 받는다.")
+    @Test
+    public void findAllArticlesETagChangesOnSave() throws Exception {
+        // given
+        final String url = "/api/articles";
+        String etag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get(url).header("If-None-Match", etag)).andExpect(status().isNotModified());
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+
+        // when
+        mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .principal(principal)
+                .content(objectMapper.writeValueAsString(new AddArticleRequest("title", "content"))));
+
+        // then
+        mockMvc.perform(get(url).header("If-None-Match", etag)).andExpect(status().isOk());
+    }
+
+    @DisplayName("findAllArticles: 목록 ETag는 목록 내용으로 만들어서 캐시를 비운 뒤(다른 서버)에도 같은 목록이면 304 응답을 받는다.")
+    @Test
+    public void findAllArticlesETagIsContentBased() throws Exception {
+        // given
+        final String url = "/api/articles";
+        blogRepository.save(Article.builder().author("user").title("title").content("content").build());
+        String etag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+
+        // when
+        articleCache.clear();
+        ResultActions result = mockMvc.perform(get(url).header("If-None-Match", etag));
+
+        // then
+        result.andExpect(status().isNotModified());
+    }
+
     @DisplayName("deleteArticle: 블로그 글 삭제에 성공한다.")
     @Test
     public void deleteArticle() throws Exception {
@@ -166,6 +440,97 @@ class BlogApiControllerTest {
         assertThat(article.getContent()).isEqualTo(newContent);
     }
 
+    @DisplayName("updateArticle: If-Match가 현재 ETag와 같으면 수정되고, 이전 ETag로 다시 수정하면 412 응답을 받는다.")
+    @Test
+    public void updateArticleIfMatch() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        String etag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        String first = objectMapper.writeValueAsString(new UpdateArticleRequest("first", "first content"));
+        String second = objectMapper.writeValueAsString(new UpdateArticleRequest("second", "second content"));
+
+        // when
+        String newEtag = mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("If-Match", etag)
+                        .content(first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("first"))
+                .andReturn().getResponse().getHeader("ETag");
+        ResultActions stale = mockMvc.perform(put(url, savedArticle.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header("If-Match", etag)
+                .content(second));
+
+        // then
+        stale.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value(ErrorCode.ARTICLE_PRECONDITION_FAILED.getCode()));
+        assertThat(newEtag).isNotEqualTo(etag);
+        Article article = blogRepository.findById(savedArticle.getId()).get();
+        assertThat(article.getTitle()).isEqualTo("first");
+        assertThat(article.getVersion()).isEqualTo(savedArticle.getVersion() + 1);
+    }
+
+    @DisplayName("updateArticle: If-Match 없이 수정하는 사이 다른 요청이 먼저 수정했으면 409 응답을 받는다.")
+    @Test
+    public void updateArticleConflict() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        TransactionTemplate otherRequest = new TransactionTemplate(transactionManager);
+        otherRequest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicBoolean edited = new AtomicBoolean();
+        // 글을 읽고 커밋하기 전(수정 이벤트 발행 시점)에 다른 트랜잭션이 같은 글을 먼저 수정하고 커밋
+        ApplicationListener<ApplicationEvent> concurrentEdit = event -> {
+            if (event instanceof PayloadApplicationEvent<?> payload
+                    && payload.getPayload() instanceof ArticleChangedEvent
+                    && edited.compareAndSet(false, true)) {
+                otherRequest.executeWithoutResult(status -> blogRepository.findById(savedArticle.getId())
+                        .orElseThrow()
+                        .update("other title", "other content"));
+            }
+        };
+        ApplicationEventMulticaster multicaster = webApplicationContext.getBean(
+                AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME, ApplicationEventMulticaster.class);
+        multicaster.addApplicationListener(concurrentEdit);
+
+        // when
+        ResultActions result;
+        try {
+            result = mockMvc.perform(put(url, savedArticle.getId())
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .content(objectMapper.writeValueAsString(new UpdateArticleRequest("my title", "my content"))));
+        } finally {
+            multicaster.removeApplicationListener(concurrentEdit);
+        }
+
+        // then
+        result.andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(ErrorCode.CONFLICT.getCode()));
+        assertThat(edited).isTrue();
+        Article article = blogRepository.findById(savedArticle.getId()).get();
+        assertThat(article.getTitle()).isEqualTo("other title");
+        assertThat(article.getVersion()).isEqualTo(savedArticle.getVersion() + 1);
+    }
+
+    @DisplayName("deleteArticle: If-Match가 이전 버전이면 삭제하지 않고 412 응답을 받는다.")
+    @Test
+    public void deleteArticleIfMatchStale() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        String staleEtag = "\"" + savedArticle.getId() + "-" + (savedArticle.getVersion() + 1) + "\"";
+
+        // when
+        ResultActions result = mockMvc.perform(delete(url, savedArticle.getId()).header("If-Match", staleEtag));
+
+        // then
+        result.andExpect(status().isPreconditionFailed());
+        assertThat(blogRepository.findById(savedArticle.getId())).isPresent();
+    }
+
     @DisplayName("findArticle: 잘못된 http 메서드로 아티클을 조회하려고 하면 조회에 실패한다.")
     @Test
     public void invalidHttpMethod() throws Exception {
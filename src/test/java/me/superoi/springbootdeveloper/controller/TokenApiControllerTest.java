@@ -3,6 +3,7 @@ package me.superoi.springbootdeveloper.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import me.superoi.springbootdeveloper.config.jwt.JwtFactory;
 import me.superoi.springbootdeveloper.config.jwt.JwtProperties;
+import me.superoi.springbootdeveloper.config.jwt.VerifiedTokenCache;
 import me.superoi.springbootdeveloper.domain.RefreshToken;
 import me.superoi.springbootdeveloper.domain.User;
 import me.superoi.springbootdeveloper.dto.CreateAccessTokenRequest;
@@ -20,8 +21,12 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Duration;
+import java.util.Date;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -42,11 +47,14 @@ class TokenApiControllerTest {
     UserRepository userRepository;
     @Autowired
     RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    VerifiedTokenCache verifiedTokenCache;
 
     @BeforeEach
     public void mockMvcSetUp() {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
         userRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
     }
 
     @DisplayName("createNewAccessToken() : 새로운 액세스 토큰을 발급한다.")
@@ -80,4 +88,44 @@ class TokenApiControllerTest {
         // then
         resultActions.andExpect(status().isCreated()).andExpect(jsonPath("$.accessToken").isNotEmpty());
     }
-}
\ No newline at end of file
+
+    @DisplayName("createNewAccessToken() : 요청에 실린 이전 액세스 토큰은 새 토큰 발급과 함께 폐기된다.")
+    @Test
+    void createNewAccessTokenRevokesPreviousToken() throws Exception {
+        // given
+        final String url = "/api/token";
+
+        User testUser = userRepository.save(User.builder()
+                .email("user@email.com")
+                .password("password")
+                .build());
+
+        String refreshToken = JwtFactory.builder()
+                .claims(Map.of("id", testUser.getId()))
+                .build()
+                .createToken(jwtProperties);
+        String previousAccessToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() + Duration.ofHours(1).toMillis()))
+                .claims(Map.of("id", testUser.getId()))
+                .build()
+                .createToken(jwtProperties);
+
+        refreshTokenRepository.save(new RefreshToken(testUser.getId(), refreshToken));
+        assertThat(verifiedTokenCache.verify(previousAccessToken)).isPresent();
+
+        CreateAccessTokenRequest request = new CreateAccessTokenRequest();
+        request.setRefreshToken(refreshToken);
+
+        final String requestBody = objectMapper.writeValueAsString(request);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post(url)
+                .header("Authorization", "Bearer " + previousAccessToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(requestBody));
+
+        // then
+        resultActions.andExpect(status().isCreated());
+        assertThat(verifiedTokenCache.verify(previousAccessToken)).isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package me.superoi.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.superoi.springbootdeveloper.config.ViewCountProperties;
+import me.superoi.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArticleViewCounterTest {
+
+    private static final long ARTICLES = 4;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BlogRepository blogRepository = mock(BlogRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ArticleViewCounter counter =
+            new ArticleViewCounter(jdbcTemplate, blogRepository, new ViewCountProperties(), meterRegistry);
+    private final Map<Long, Long> written = new ConcurrentHashMap<>(); // DB에 반영된 글별 조회수
+
+    @DisplayName("반영과 동시에 들어온 조회수도 빠짐없이 DB에 반영된다.")
+    @Test
+    void flushDoesNotLoseConcurrentIncrements() throws Exception {
+        // given
+        recordBatchUpdates();
+        int threads = 8;
+        int incrementsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+
+        // when
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (!done.get()) {
+                counter.flush();
+            }
+            return null;
+        });
+        List<Future<?>> viewers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            viewers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    counter.increment(i % ARTICLES);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> viewer : viewers) {
+            viewer.get(30, TimeUnit.SECONDS);
+        }
+        done.set(true);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        counter.flush();
+
+        // then
+        long expectedPerArticle = (long) threads * incrementsPerThread / ARTICLES;
+        for (long id = 0; id < ARTICLES; id++) {
+            assertThat(written.get(id)).isEqualTo(expectedPerArticle);
+        }
+        assertThat(meterRegistry.get("blog.views.flushed").counter().count())
+                .isEqualTo((double) threads * incrementsPerThread);
+        assertThat(meterRegistry.get("blog.views.pending").gauge().value()).isZero();
+    }
+
+    @DisplayName("DB 반영에 실패한 조회수는 다음 반영 때 다시 더해진다.")
+    @Test
+    void failedFlushIsRetried() {
+        // given
+        counter.increment(1L);
+        counter.increment(1L);
+        doThrow(new IllegalStateException("db down")).when(jdbcTemplate)
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        counter.flush();
+        counter.increment(1L);
+
+        // when
+        recordBatchUpdates();
+        counter.flush();
+
+        // then
+        assertThat(written).containsExactly(Map.entry(1L, 3L));
+    }
+
+    // batchUpdate 에 넘어온 (delta, id) 를 글별로 누적
+    @SuppressWarnings("unchecked")
+    private void recordBatchUpdates() {
+        when(blogRepository.findViewCounts(anyCollection())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            Collection<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> written.merge((Long) row[1], (Long) row[0], Long::sum));
+            return new int[0][];
+        }).when(jdbcTemplate)
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+}
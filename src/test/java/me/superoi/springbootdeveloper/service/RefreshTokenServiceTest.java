@@ -0,0 +1,90 @@
+package me.superoi.springbootdeveloper.service;
+
+import me.superoi.springbootdeveloper.domain.RefreshToken;
+import me.superoi.springbootdeveloper.repository.RefreshTokenRepository;
+import me.superoi.springbootdeveloper.util.DigestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    @AfterEach // 다른 테스트의 유저 id와 겹치지 않도록 정리
+    void cleanUp() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @DisplayName("findUserIdByRefreshToken() : 토큰 원문 대신 저장된 다이제스트로 유저 id를 찾는다.")
+    @Test
+    void findUserIdByDigest() {
+        // given
+        String token = newToken();
+        refreshTokenService.save(1L, token, LocalDateTime.now().plusDays(1));
+
+        // when
+        Long userId = refreshTokenService.findUserIdByRefreshToken(token);
+
+        // then
+        assertThat(userId).isEqualTo(1L);
+        RefreshToken stored = refreshTokenRepository.findByUserId(1L).get();
+        assertThat(stored.getTokenHash()).isEqualTo(DigestUtil.sha256(token)).isNotEqualTo(token);
+        assertThatThrownBy(() -> refreshTokenService.findUserIdByRefreshToken(newToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("save() : 토큰을 교체하면 캐시에 남아 있던 이전 토큰으로는 더 이상 조회되지 않는다.")
+    @Test
+    void rotationEvictsCachedToken() {
+        // given
+        String oldToken = newToken();
+        String newToken = newToken();
+        refreshTokenService.save(1L, oldToken, LocalDateTime.now().plusDays(1));
+        refreshTokenService.findUserIdByRefreshToken(oldToken); // 캐시에 올림
+
+        // when
+        refreshTokenService.save(1L, newToken, LocalDateTime.now().plusDays(1));
+
+        // then
+        assertThatThrownBy(() -> refreshTokenService.findUserIdByRefreshToken(oldToken))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(refreshTokenService.findUserIdByRefreshToken(newToken)).isEqualTo(1L);
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("purgeExpired() : 만료 시각이 지난 토큰만 삭제한다.")
+    @Test
+    void purgeExpired() {
+        // given
+        refreshTokenService.save(1L, newToken(), LocalDateTime.now().minusMinutes(1));
+        refreshTokenService.save(2L, newToken(), LocalDateTime.now().plusDays(1));
+
+        // when
+        refreshTokenService.purgeExpired();
+
+        // then
+        assertThat(refreshTokenRepository.findByUserId(1L)).isEmpty();
+        assertThat(refreshTokenRepository.findByUserId(2L)).isPresent();
+    }
+
+    // 테스트 간 캐시가 섞이지 않도록 매번 다른 토큰
+    private static String newToken() {
+        return UUID.randomUUID().toString();
+    }
+}
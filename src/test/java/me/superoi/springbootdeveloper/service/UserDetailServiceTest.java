@@ -0,0 +1,74 @@
+package me.superoi.springbootdeveloper.service;
+
+import me.superoi.springbootdeveloper.domain.User;
+import me.superoi.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserDetailServiceTest {
+
+    private static final String EMAIL = "legacy@email.com";
+    private static final String RAW_PASSWORD = "password";
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    AuthenticationManager authenticationManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("passwordEncoder : 접두사 없는 기존 bcrypt 해시도 검증하고, 새 해시는 {bcrypt} 접두사로 저장한다.")
+    @Test
+    void matchesLegacyHash() {
+        // given
+        String legacyHash = new BCryptPasswordEncoder().encode(RAW_PASSWORD);
+
+        // when
+        boolean matches = passwordEncoder.matches(RAW_PASSWORD, legacyHash);
+
+        // then
+        assertThat(matches).isTrue();
+        assertThat(passwordEncoder.matches("wrong-password", legacyHash)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+        assertThat(passwordEncoder.encode(RAW_PASSWORD)).startsWith("{bcrypt}");
+    }
+
+    @DisplayName("updatePassword() : 기존 형식 해시로 로그인에 성공하면 현재 인코더 형식으로 다시 저장된다.")
+    @Test
+    void upgradesLegacyHashOnLogin() {
+        // given
+        String legacyHash = new BCryptPasswordEncoder().encode(RAW_PASSWORD);
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .password(legacyHash)
+                .build());
+
+        // when
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, RAW_PASSWORD));
+
+        // then
+        String storedHash = userRepository.findByEmail(EMAIL).orElseThrow().getPassword();
+        assertThat(storedHash).startsWith("{bcrypt}").isNotEqualTo(legacyHash);
+        assertThat(passwordEncoder.matches(RAW_PASSWORD, storedHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(storedHash)).isFalse();
+    }
+}
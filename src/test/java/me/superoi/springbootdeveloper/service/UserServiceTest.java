@@ -0,0 +1,69 @@
+package me.superoi.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.superoi.springbootdeveloper.config.PasswordHasher;
+import me.superoi.springbootdeveloper.config.PasswordProperties;
+import me.superoi.springbootdeveloper.domain.User;
+import me.superoi.springbootdeveloper.dto.AddUserRequest;
+import me.superoi.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final PasswordHasher passwordHasher =
+            new PasswordHasher(passwordEncoder, new PasswordProperties(), new SimpleMeterRegistry());
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(task -> new Thread(task, "user-save"));
+
+    @AfterEach
+    void shutdown() {
+        passwordHasher.destroy();
+        saveExecutor.shutdown();
+    }
+
+    @DisplayName("save() : 해싱은 해싱 스레드에서, 저장은 해싱 스레드가 아닌 저장용 실행기에서 수행한다.")
+    @Test
+    void savesOutsideHashThread() throws Exception {
+        // given
+        AtomicReference<String> hashThread = new AtomicReference<>();
+        AtomicReference<String> saveThread = new AtomicReference<>();
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            hashThread.set(Thread.currentThread().getName());
+            return "hashed";
+        });
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            saveThread.set(Thread.currentThread().getName());
+            User user = invocation.getArgument(0);
+            ReflectionTestUtils.setField(user, "id", 1L);
+            return user;
+        });
+        AddUserRequest request = new AddUserRequest();
+        request.setEmail("user@email.com");
+        request.setPassword("password");
+        UserService userService = new UserService(userRepository, passwordHasher, saveExecutor);
+
+        // when
+        Long id = userService.save(request).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(id).isEqualTo(1L);
+        assertThat(hashThread.get()).startsWith("password-hash-");
+        assertThat(saveThread.get()).isEqualTo("user-save");
+    }
+}
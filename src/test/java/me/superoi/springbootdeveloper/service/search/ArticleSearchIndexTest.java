@@ -0,0 +1,162 @@
+package me.superoi.springbootdeveloper.service.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.superoi.springbootdeveloper.domain.Article;
+import me.superoi.springbootdeveloper.dto.ArticleIndexEntry;
+import me.superoi.springbootdeveloper.dto.ArticleSearchResponse;
+import me.superoi.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArticleSearchIndexTest {
+
+    private final BlogRepository blogRepository = mock(BlogRepository.class);
+    private final ArticleSearchIndex searchIndex = new ArticleSearchIndex(blogRepository, new SimpleMeterRegistry());
+
+    @DisplayName("analyze() : 소문자로 바꿔 문자/숫자가 아닌 곳에서 자르고, 3글자 이상 한글 단어는 2글자 조각도 만든다.")
+    @Test
+    void analyze() {
+        // when
+        var terms = ArticleSearchIndex.analyze("Spring-Boot 3, 스프링부트를 써요!");
+
+        // then
+        assertThat(terms).containsExactly(
+                "spring", "boot", "3", "스프링부트를", "스프", "프링", "링부", "부트", "트를", "써요");
+        assertThat(ArticleSearchIndex.analyze(null)).isEmpty();
+        assertThat(ArticleSearchIndex.analyze(" -- ")).isEmpty();
+    }
+
+    @DisplayName("search() : 제목에 나온 단어가 본문보다, 드문 단어가 흔한 단어보다 점수가 높다.")
+    @Test
+    void searchScoring() {
+        // given
+        searchIndex.put(article(1L, 0L, "일기", "spring 캐시"));
+        searchIndex.put(article(2L, 0L, "캐시 정리", "spring"));
+        searchIndex.put(article(3L, 0L, "일기", "jpa"));
+
+        // when
+        ArticleSearchResponse byTitle = searchIndex.search("캐시", 0, 10);
+        ArticleSearchResponse byIdf = searchIndex.search("spring jpa", 0, 10);
+
+        // then
+        assertThat(byTitle.getTotal()).isEqualTo(2);
+        assertThat(byTitle.getArticles()).extracting(ArticleSearchResponse.Hit::getId).containsExactly(2L, 1L);
+        assertThat(byIdf.getArticles()).extracting(ArticleSearchResponse.Hit::getId).containsExactly(3L, 2L, 1L);
+    }
+
+    @DisplayName("search() : 점수가 같으면 id 내림차순이고, page/size 만큼 잘라 반환한다.")
+    @Test
+    void searchPaging() {
+        // given
+        for (long id = 1; id <= 3; id++) {
+            searchIndex.put(article(id, 0L, "제목", "본문"));
+        }
+
+        // when
+        ArticleSearchResponse response = searchIndex.search("제목", 1, 2);
+        ArticleSearchResponse outOfRange = searchIndex.search("제목", 5, 2);
+
+        // then
+        assertThat(response.getTotal()).isEqualTo(3);
+        assertThat(response.getArticles()).extracting(ArticleSearchResponse.Hit::getId).containsExactly(1L);
+        assertThat(outOfRange.getArticles()).isEmpty();
+    }
+
+    @DisplayName("remove()/put() : 삭제하거나 수정하면 이전 단어로는 더 이상 찾을 수 없다.")
+    @Test
+    void removeAndUpdate() {
+        // given
+        searchIndex.put(article(1L, 0L, "수정 전", "본문"));
+        searchIndex.put(article(2L, 0L, "삭제 대상", "본문"));
+
+        // when
+        searchIndex.put(article(1L, 1L, "수정 후", "본문"));
+        searchIndex.remove(2L);
+
+        // then
+        assertThat(searchIndex.size()).isEqualTo(1);
+        assertThat(searchIndex.search("전", 0, 10).getTotal()).isZero();
+        assertThat(searchIndex.search("후", 0, 10).getArticles())
+                .extracting(ArticleSearchResponse.Hit::getTitle).containsExactly("수정 후");
+        assertThat(searchIndex.search("삭제", 0, 10).getTotal()).isZero();
+        assertThat(searchIndex.search("본문", 0, 10).getTotal()).isEqualTo(1);
+    }
+
+    @DisplayName("put() : 이미 색인된 것보다 낮은 version은 무시한다.")
+    @Test
+    void ignoresOlderVersion() {
+        // given
+        searchIndex.put(article(1L, 2L, "최신", "본문"));
+
+        // when
+        searchIndex.put(article(1L, 1L, "이전", "본문"));
+
+        // then
+        assertThat(searchIndex.search("최신", 0, 10).getTotal()).isEqualTo(1);
+        assertThat(searchIndex.search("이전", 0, 10).getTotal()).isZero();
+    }
+
+    @DisplayName("rebuild() : 배치를 읽는 동안 들어온 수정/삭제 이벤트가 이전에 읽은 값보다 우선한다.")
+    @Test
+    void rebuildReplaysChangesDuringLoad() {
+        // given
+        searchIndex.put(article(9L, 0L, "재구성 전에만 있던 글", "본문"));
+        when(blogRepository.findIndexEntriesAfter(eq(0L), any())).thenAnswer(invocation -> {
+            List<ArticleIndexEntry> batch = List.of(entry(1L, 0L, "수정 전"), entry(2L, 0L, "삭제 대상"));
+            // 배치를 읽은 뒤 교체 전에 커밋된 변경
+            searchIndex.onArticleChanged(ArticleChangedEvent.updated(article(1L, 1L, "수정 후", "본문")));
+            searchIndex.onArticleChanged(ArticleChangedEvent.deleted(2L));
+            return batch;
+        });
+
+        // when
+        searchIndex.rebuild();
+
+        // then
+        assertThat(searchIndex.size()).isEqualTo(1);
+        assertThat(searchIndex.search("후", 0, 10).getArticles())
+                .extracting(ArticleSearchResponse.Hit::getId).containsExactly(1L);
+        assertThat(searchIndex.search("전", 0, 10).getTotal()).isZero();
+        assertThat(searchIndex.search("삭제", 0, 10).getTotal()).isZero();
+    }
+
+    @DisplayName("onArticlesImported() : 가져온 글은 기존 색인에 병합하고, 그동안 삭제된 글은 다시 넣지 않는다.")
+    @Test
+    void importMergesIntoExistingIndex() {
+        // given
+        searchIndex.put(article(1L, 0L, "기존 글", "본문"));
+        when(blogRepository.findIndexEntriesAfter(eq(1L), any())).thenAnswer(invocation -> {
+            List<ArticleIndexEntry> batch = List.of(entry(2L, 0L, "가져온 글"), entry(3L, 0L, "곧 삭제"));
+            searchIndex.onArticleChanged(ArticleChangedEvent.deleted(3L));
+            return batch;
+        });
+
+        // when
+        searchIndex.onArticlesImported(new ArticlesImportedEvent(1L));
+
+        // then
+        assertThat(searchIndex.size()).isEqualTo(2);
+        assertThat(searchIndex.search("글", 0, 10).getArticles())
+                .extracting(ArticleSearchResponse.Hit::getId).containsExactly(2L, 1L);
+    }
+
+    private static Article article(Long id, Long version, String title, String content) {
+        Article article = Article.builder().author("user@email.com").title(title).content(content).build();
+        ReflectionTestUtils.setField(article, "id", id);
+        ReflectionTestUtils.setField(article, "version", version);
+        return article;
+    }
+
+    private static ArticleIndexEntry entry(Long id, Long version, String title) {
+        return new ArticleIndexEntry(id, title, "본문", "user@email.com", null, version);
+    }
+}